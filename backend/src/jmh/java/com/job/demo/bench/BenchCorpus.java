@@ -0,0 +1,166 @@
+package com.job.demo.bench;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import com.job.demo.job.model.Job;
+import com.job.demo.job.model.JobDescription;
+import com.job.demo.model.Skill;
+import com.job.demo.model.User;
+import com.job.demo.model.UserProfile;
+
+/**
+ * Synthetic jobs and profiles for the benchmarks. Everything comes from a
+ * fixed seed, so the same size always yields the same corpus and results
+ * stay comparable between runs and releases.
+ */
+public final class BenchCorpus {
+
+    public static final long SEED = 20240611L;
+
+    private static final String[] ROLES = {
+            "Frontend Developer", "Backend Engineer", "Data Analyst", "DevOps Engineer", "Product Designer",
+            "Android Developer", "QA Engineer", "Machine Learning Engineer", "Full Stack Developer", "SRE"};
+    private static final String[] SENIORITY = {"", "Junior ", "Senior ", "Lead ", "Staff "};
+    private static final String[] COMPANIES = {
+            "Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark Industries", "Wayne Enterprises",
+            "Tyrell", "Cyberdyne", "Soylent", "Wonka", "Aperture"};
+    private static final String[] LOCATIONS = {
+            "Bengaluru, Karnataka", "Pune, Maharashtra", "Hyderabad, Telangana", "Mumbai, Maharashtra",
+            "Chennai, Tamil Nadu", "Gurugram, Haryana", "Noida, Uttar Pradesh", "Remote", "Kolkata, West Bengal"};
+    private static final String[] JOB_TYPES = {"Full-time", "Part-time", "Internship", "Contract"};
+    private static final String[] SALARY_UNITS = {"year", "month", "hour"};
+    private static final String[] SKILLS = {
+            "Java", "Spring Boot", "React", "TypeScript", "Python", "SQL", "Docker", "Kubernetes", "AWS",
+            "Kotlin", "Go", "Node.js", "Figma", "Pandas", "TensorFlow", "Linux", "Git", "GraphQL"};
+    private static final String[] SENTENCES = {
+            "Design, build and maintain services used by millions of job seekers",
+            "Work with product and design to ship features end to end",
+            "Own the reliability and performance of the systems you build",
+            "Write clean, tested code and review your teammates' pull requests",
+            "Mentor junior engineers and help shape our engineering culture",
+            "Collaborate with data science on ranking and recommendation models",
+            "Improve observability, alerting and incident response",
+            "Drive the migration of legacy components to the new platform"};
+
+    private BenchCorpus() {}
+
+    // Raw jobs as the n8n webhook delivers them, i.e. the input to JobService.syncJobsFromMaps
+    public static List<Map<String, Object>> jobMaps(int count) {
+        Random random = new Random(SEED);
+        List<Map<String, Object>> maps = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("id", "bench-" + i);
+            map.put("title", pick(random, SENIORITY) + pick(random, ROLES));
+            map.put("company", pick(random, COMPANIES));
+            map.put("location", pick(random, LOCATIONS));
+            map.put("link", "https://jobs.example.com/apply/" + i);
+            map.put("postedAgo", (1 + random.nextInt(20)) + " days ago");
+            map.put("jobType", pick(random, JOB_TYPES));
+            map.put("salary", Map.of(
+                    "amount", 20_000 + random.nextInt(200) * 1_000,
+                    "currency", "INR",
+                    "unit", pick(random, SALARY_UNITS)));
+            map.put("benefits", List.of("Health insurance", "Flexible hours"));
+            map.put("qualifications", picks(random, SKILLS, 4));
+            map.put("fullDescription", Map.of(
+                    "category", "Engineering",
+                    "workMode", random.nextBoolean() ? "Remote" : "On-site",
+                    "description", picks(random, SENTENCES, 4),
+                    "requirements", picks(random, SKILLS, 5)));
+            maps.add(map);
+        }
+        return maps;
+    }
+
+    // The same jobs as entities, the shape the API serializes
+    public static List<Job> jobs(int count) {
+        List<Job> jobs = new ArrayList<>(count);
+        for (Map<String, Object> map : jobMaps(count)) {
+            Job job = new Job();
+            job.setId((String) map.get("id"));
+            job.setTitle((String) map.get("title"));
+            job.setCompany((String) map.get("company"));
+            job.setLocation((String) map.get("location"));
+            job.setApplyUrl((String) map.get("link"));
+            job.setPostedAgo((String) map.get("postedAgo"));
+            job.setJobType((String) map.get("jobType"));
+            Map<?, ?> salary = (Map<?, ?>) map.get("salary");
+            job.setSalaryAmount((Integer) salary.get("amount"));
+            job.setSalaryCurrency((String) salary.get("currency"));
+            job.setSalaryUnit((String) salary.get("unit"));
+            job.setBenefits(stringList(map.get("benefits")));
+            job.setQualifications(stringList(map.get("qualifications")));
+            Map<?, ?> description = (Map<?, ?>) map.get("fullDescription");
+            JobDescription fullDescription = new JobDescription();
+            fullDescription.setCategory((String) description.get("category"));
+            fullDescription.setWorkMode((String) description.get("workMode"));
+            fullDescription.setDescription(stringList(description.get("description")));
+            fullDescription.setRequirements(stringList(description.get("requirements")));
+            job.setFullDescription(fullDescription);
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    // A user with a filled-in profile, the input to the /api/profile/me mapping
+    public static UserProfile profile(int skillCount, int linkCount) {
+        Random random = new Random(SEED);
+        User user = new User();
+        user.setId(1L);
+        user.setFullName("Bench User");
+        user.setEmail("bench@example.com");
+        user.setPhoneNumber("+91 98765 43210");
+
+        UserProfile profile = new UserProfile();
+        profile.setUser(user);
+        profile.setTargetRole(pick(random, ROLES));
+        profile.setExperienceYears(random.nextInt(15));
+        profile.setBio(String.join(". ", picks(random, SENTENCES, 3)));
+        profile.setPreferredLocation(pick(random, LOCATIONS));
+        profile.setMinSalary(600_000);
+        profile.setProfilePictureUrl("/uploads/bench.png");
+        profile.setResumeUrl("/uploads/bench.pdf");
+        profile.setGithubProfile("https://github.com/bench");
+        profile.setLinkedinProfile("https://www.linkedin.com/in/bench");
+
+        Set<Skill> skills = new HashSet<>();
+        for (int i = 0; i < skillCount; i++) {
+            skills.add(new Skill(SKILLS[i % SKILLS.length] + (i < SKILLS.length ? "" : " " + i)));
+        }
+        profile.setSkills(skills);
+        Set<String> links = new HashSet<>();
+        for (int i = 0; i < linkCount; i++) {
+            links.add("https://links.example.com/bench/" + i);
+        }
+        profile.setSocialLinks(links);
+        user.setUserProfile(profile);
+        return profile;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static List<String> picks(Random random, String[] values, int count) {
+        List<String> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            picked.add(pick(random, values));
+        }
+        return picked;
+    }
+
+    private static List<String> stringList(Object value) {
+        List<String> values = new ArrayList<>();
+        for (Object item : (List<?>) value) {
+            values.add(item.toString());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,111 @@
+package com.job.demo.bench;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.demo.job.dto.JobSyncResult;
+import com.job.demo.job.geo.Gazetteer;
+import com.job.demo.job.index.JobDuplicateIndex;
+import com.job.demo.job.repository.JobBatchRepository;
+import com.job.demo.job.service.JobService;
+import com.job.demo.job.service.SalaryNormalizer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * JobService.syncJobsFromMaps against an in-memory H2 database in MySQL
+ * mode: fingerprinting, near-duplicate checks, the bulk hash lookup and
+ * the batched upsert. "insert" writes into an empty table; "resync" sends
+ * the same jobs again, which is the common case for a scheduled ingestion.
+ * Absolute numbers are not MySQL's; compare runs with each other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class JobSyncBenchmark {
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    @Param({"insert", "resync"})
+    public String scenario;
+
+    @Param({"true", "false"})
+    public boolean dedup;
+
+    private List<Map<String, Object>> jobMaps;
+    private JdbcTemplate jdbc;
+    private JobDuplicateIndex duplicateIndex;
+    private JobService jobService;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS jobs");
+        new ResourceDatabasePopulator(new ClassPathResource("bench-schema.sql")).execute(dataSource);
+
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        duplicateIndex = new JobDuplicateIndex(3);
+        // The sync path never touches the JPA repository, and nothing listens for JobsChangedEvent here
+        jobService = new JobService(null,
+                new JobBatchRepository(new NamedParameterJdbcTemplate(dataSource), objectMapper),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                event -> { },
+                objectMapper,
+                new SalaryNormalizer(new ClassPathResource("fx-rates.properties"), "INR"),
+                new Gazetteer(new ClassPathResource("gazetteer.csv")),
+                ObservationRegistry.NOOP,
+                new SimpleMeterRegistry(),
+                duplicateIndex,
+                dedup,
+                20, 100, 500,
+                Duration.ofDays(30));
+        jobMaps = BenchCorpus.jobMaps(rows);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        jdbc.execute("TRUNCATE TABLE jobs");
+        duplicateIndex.remove(jobMaps.stream().map(map -> (String) map.get("id")).toList());
+        if (scenario.equals("resync")) {
+            jobService.syncJobsFromMaps(jobMaps);
+            // What JobIndexMaintainer would do after the first sync
+            duplicateIndex.upsert(BenchCorpus.jobs(rows));
+        }
+    }
+
+    @Benchmark
+    public JobSyncResult sync() {
+        return jobService.syncJobsFromMaps(jobMaps);
+    }
+}
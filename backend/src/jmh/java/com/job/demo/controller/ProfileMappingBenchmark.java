@@ -0,0 +1,54 @@
+package com.job.demo.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.job.demo.bench.BenchCorpus;
+import com.job.demo.dto.ProfileResponse;
+import com.job.demo.model.UserProfile;
+
+// GET /api/profile/me without the two repository lookups: entity-to-DTO mapping, then the JSON body
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ProfileMappingBenchmark {
+
+    @Param({"5", "50"})
+    public int skills;
+
+    private UserProfile profile;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        profile = BenchCorpus.profile(skills, skills / 5);
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(ProfileResponse.class);
+    }
+
+    @Benchmark
+    public ProfileResponse map() {
+        return ProfileController.toResponse(profile.getUser(), profile);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(ProfileController.toResponse(profile.getUser(), profile));
+    }
+}
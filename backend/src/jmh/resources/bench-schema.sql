@@ -0,0 +1,29 @@
+-- The jobs table as JobBatchRepository writes it, for H2 in MySQL mode.
+-- JSON columns are plain text here: the batch upsert binds them as strings either way.
+CREATE TABLE jobs (
+    id VARCHAR(255) PRIMARY KEY,
+    title VARCHAR(255),
+    company VARCHAR(255),
+    company_logo VARCHAR(500),
+    rating DECIMAL(2, 1),
+    location VARCHAR(255),
+    job_type VARCHAR(255),
+    salary_amount INT,
+    salary_currency VARCHAR(10),
+    salary_unit VARCHAR(255),
+    salary_annual BIGINT,
+    remote BOOLEAN,
+    location_key VARCHAR(64),
+    posted_ago VARCHAR(50),
+    benefits CLOB,
+    qualifications CLOB,
+    full_description CLOB,
+    apply_url VARCHAR(500),
+    content_hash VARCHAR(64),
+    posted_at TIMESTAMP,
+    expires_at TIMESTAMP,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+CREATE INDEX idx_jobs_created_at_id_expires_at ON jobs (created_at, id, expires_at);
+CREATE INDEX idx_jobs_expires_at ON jobs (expires_at);
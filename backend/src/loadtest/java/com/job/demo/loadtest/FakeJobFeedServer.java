@@ -0,0 +1,160 @@
+package com.job.demo.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stands in for the n8n webhook: GET /jobs streams a JSON array of
+ * synthetic jobs in the n8n shape. The payload is derived from the job
+ * index, so every request returns the same jobs except for the share picked
+ * by changeRatio, which differ on every call. duplicateRatio of the jobs
+ * are near-copies of an earlier job under a new id, the way aggregator
+ * mirrors arrive. Query parameters jobs, duplicateRatio, changeRatio and
+ * latencyMs override the defaults per request; source namespaces the ids,
+ * so several configured sources can point at one server.
+ */
+public final class FakeJobFeedServer implements AutoCloseable {
+
+    private static final String[] ROLES = {
+            "Frontend Developer", "Backend Engineer", "Data Analyst", "DevOps Engineer", "Product Designer",
+            "Android Developer", "QA Engineer", "Machine Learning Engineer", "Full Stack Developer", "SRE"};
+    private static final String[] COMPANIES = {
+            "Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark Industries", "Wayne Enterprises", "Tyrell"};
+    private static final String[] LOCATIONS = {
+            "Bengaluru, Karnataka", "Pune, Maharashtra", "Hyderabad, Telangana", "Mumbai, Maharashtra",
+            "Chennai, Tamil Nadu", "Gurugram, Haryana", "Remote"};
+    private static final String[] SKILLS = {
+            "Java", "Spring Boot", "React", "TypeScript", "Python", "SQL", "Docker", "Kubernetes", "AWS", "Go"};
+    private static final String[] WORDS = {
+            "build", "ship", "own", "scale", "design", "review", "services", "features", "pipelines", "customers",
+            "reliability", "latency", "teams", "platform", "quality", "mentor", "data", "product", "roadmap", "tests"};
+
+    private final HttpServer server;
+    private final ExecutorService handlers = Executors.newCachedThreadPool();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final int jobs;
+    private final double duplicateRatio;
+    private final double changeRatio;
+    private final Duration latency;
+
+    public FakeJobFeedServer(int jobs, double duplicateRatio, double changeRatio, Duration latency) throws IOException {
+        this.jobs = jobs;
+        this.duplicateRatio = duplicateRatio;
+        this.changeRatio = changeRatio;
+        this.latency = latency;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/jobs", this::serve);
+        this.server.setExecutor(handlers);
+    }
+
+    public URI start() {
+        server.start();
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        int round = requests.incrementAndGet();
+        Map<String, String> query = query(exchange.getRequestURI());
+        int count = Integer.parseInt(query.getOrDefault("jobs", String.valueOf(jobs)));
+        double duplicates = Double.parseDouble(query.getOrDefault("duplicateRatio", String.valueOf(duplicateRatio)));
+        double changes = Double.parseDouble(query.getOrDefault("changeRatio", String.valueOf(changeRatio)));
+        long latencyMs = Long.parseLong(query.getOrDefault("latencyMs", String.valueOf(latency.toMillis())));
+        String source = query.getOrDefault("source", "feed");
+        try {
+            // Time to first byte, like a workflow that scrapes before it answers
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream body = exchange.getResponseBody();
+             JsonGenerator json = objectMapper.getFactory().createGenerator(body)) {
+            json.writeStartArray();
+            for (int i = 0; i < count; i++) {
+                json.writeObject(job(source, i, duplicates, changes, round));
+            }
+            json.writeEndArray();
+        }
+    }
+
+    private static Map<String, Object> job(String source, int index, double duplicateRatio, double changeRatio, int round) {
+        SplittableRandom random = new SplittableRandom(index * 0x9E3779B97F4A7C15L);
+        boolean duplicate = index > 0 && random.nextDouble() < duplicateRatio;
+        // A duplicate repeats the content of an earlier job; only its id and link are its own
+        int contentIndex = duplicate ? random.nextInt(index) : index;
+        SplittableRandom content = new SplittableRandom(contentIndex * 0x9E3779B97F4A7C15L + 1);
+        boolean changed = content.nextDouble() < changeRatio;
+
+        Map<String, Object> job = new LinkedHashMap<>();
+        job.put("id", source + "-" + index);
+        job.put("title", pick(content, ROLES));
+        job.put("company", pick(content, COMPANIES));
+        job.put("location", pick(content, LOCATIONS));
+        job.put("link", "https://jobs.example.com/" + source + "/" + index);
+        job.put("postedAgo", (1 + content.nextInt(20)) + " days ago");
+        job.put("jobType", content.nextBoolean() ? "Full-time" : "Internship");
+        job.put("salary", Map.of("amount", 20_000 + content.nextInt(100) * 1_000, "currency", "INR", "unit", "month"));
+        job.put("qualifications", List.of(pick(content, SKILLS), pick(content, SKILLS), pick(content, SKILLS)));
+        job.put("fullDescription", Map.of(
+                "workMode", content.nextBoolean() ? "Remote" : "On-site",
+                "description", List.of(sentence(content), sentence(content), sentence(content),
+                        changed ? "Reposted in round " + round : sentence(content)),
+                "requirements", List.of(pick(content, SKILLS), pick(content, SKILLS))));
+        return job;
+    }
+
+    private static String sentence(SplittableRandom random) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            sentence.append(i == 0 ? "" : " ").append(pick(random, WORDS));
+        }
+        return sentence.toString();
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        if (uri.getRawQuery() != null) {
+            for (String pair : uri.getRawQuery().split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    params.put(pair.substring(0, eq), pair.substring(eq + 1));
+                }
+            }
+        }
+        return params;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+}
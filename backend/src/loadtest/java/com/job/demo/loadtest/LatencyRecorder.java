@@ -0,0 +1,52 @@
+package com.job.demo.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Every latency of one scenario, kept raw (a run is minutes, not days) so percentiles are exact
+final class LatencyRecorder {
+
+    private final String name;
+    private long[] nanos = new long[1024];
+    private int count;
+    private int errors;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long elapsedNanos, boolean ok) {
+        if (!ok) {
+            errors++;
+        }
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = elapsedNanos;
+    }
+
+    synchronized String summary(long wallNanos) {
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        double seconds = wallNanos / 1e9;
+        return String.format(Locale.ROOT, "%-10s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f",
+                name, count, errors, count / seconds,
+                millis(sorted, 0.50), millis(sorted, 0.90), millis(sorted, 0.99),
+                sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1e6);
+    }
+
+    static String header() {
+        return String.format(Locale.ROOT, "%-10s %8s %7s %9s %9s %9s %9s %9s",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+    }
+
+    // Nearest-rank percentile
+    private static double millis(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,242 @@
+package com.job.demo.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.demo.JobAiApplication;
+
+/**
+ * Single-box load test: starts FakeJobFeedServer, boots the app on the
+ * embedded "loadtest" database profile, seeds the catalog through a real
+ * ingestion run, then drives each scenario with --users concurrent users
+ * for --duration (after an unrecorded --warmup) and prints throughput and
+ * latency percentiles per request type.
+ *
+ * Scenarios: feed (paged and ranked feed reads), sync (users triggering
+ * ingestion runs, which coalesce, and waiting for them to finish), profile
+ * (profile saves and reads) and upload (resume uploads of --upload-kb).
+ * The driver shares the JVM with the app, so read absolute numbers as a
+ * floor and compare runs made with the same settings.
+ */
+public final class LoadTest {
+
+    private static final List<String> ALL_SCENARIOS = List.of("feed", "sync", "profile", "upload");
+    private static final String[] SKILLS = {
+            "Java", "Spring Boot", "React", "TypeScript", "Python", "SQL", "Docker", "Kubernetes", "AWS", "Go",
+            "Kotlin", "Node.js", "GraphQL", "Redis", "Kafka", "Linux", "Git", "Figma", "Pandas", "Terraform",
+            "MySQL", "MongoDB", "Angular", "Vue", "C++", "C#", ".NET", "Rust", "Swift", "Flutter"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> options;
+
+    private LoadTest(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new LoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        List<String> scenarios = List.of(option("scenarios", String.join(",", ALL_SCENARIOS)).split(","));
+        if (!Set.copyOf(ALL_SCENARIOS).containsAll(scenarios)) {
+            throw new IllegalArgumentException("Unknown scenario in " + scenarios + "; expected " + ALL_SCENARIOS);
+        }
+        int users = Integer.parseInt(option("users", "16"));
+        Duration duration = Duration.parse(option("duration", "PT30S"));
+        Duration warmup = Duration.parse(option("warmup", "PT5S"));
+
+        try (FakeJobFeedServer feed = new FakeJobFeedServer(
+                Integer.parseInt(option("feed-jobs", "2000")),
+                Double.parseDouble(option("feed-duplicate-ratio", "0.1")),
+                Double.parseDouble(option("feed-change-ratio", "0.05")),
+                Duration.parse(option("feed-latency", "PT0.2S")))) {
+            URI feedUrl = feed.start();
+            Path uploads = Files.createTempDirectory("loadtest-uploads");
+            try (ConfigurableApplicationContext app = new SpringApplicationBuilder(JobAiApplication.class)
+                    .profiles("loadtest")
+                    .properties("server.port=0", "loadtest.feed-url=" + feedUrl, "loadtest.uploads-dir=" + uploads)
+                    .run()) {
+                URI base = URI.create("http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port"));
+                LoadClient admin = new LoadClient(base, objectMapper);
+                admin.register("admin@loadtest.local");
+                JsonNode seeded = awaitIngestion(admin, admin.postJson("/api/jobs/ingestions", Map.of()));
+                System.out.println("Seeded catalog: " + seeded.path("result"));
+
+                List<LoadClient> clients = new ArrayList<>();
+                for (int i = 0; i < users; i++) {
+                    LoadClient client = new LoadClient(base, objectMapper);
+                    client.register("user" + i + "@loadtest.local");
+                    clients.add(client);
+                }
+
+                Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+                Map<String, Long> wallNanos = new HashMap<>();
+                for (String scenario : scenarios) {
+                    drive(scenario, clients, warmup, null);
+                    long started = System.nanoTime();
+                    drive(scenario, clients, duration, recorders);
+                    long elapsed = System.nanoTime() - started;
+                    recorders.keySet().forEach(label -> wallNanos.putIfAbsent(label, elapsed));
+                }
+
+                System.out.printf("%n%d users, %s per scenario, feed of %s jobs (%d feed requests served)%n",
+                        users, duration, option("feed-jobs", "2000"), feed.getRequestCount());
+                System.out.println(LatencyRecorder.header());
+                recorders.forEach((label, recorder) -> System.out.println(recorder.summary(wallNanos.get(label))));
+            } finally {
+                deleteRecursively(uploads);
+            }
+        }
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    // Every client runs the scenario in a loop until the time is up; recorders == null is a warmup
+    private void drive(String scenario, List<LoadClient> clients, Duration length, Map<String, LatencyRecorder> recorders)
+            throws Exception {
+        long deadline = System.nanoTime() + length.toNanos();
+        ExecutorService users = Executors.newFixedThreadPool(clients.size());
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (LoadClient client : clients) {
+                running.add(users.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        iteration(scenario, client, recorders);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> user : running) {
+                user.get();
+            }
+        } finally {
+            users.shutdownNow();
+        }
+    }
+
+    private void iteration(String scenario, LoadClient client, Map<String, LatencyRecorder> recorders) throws Exception {
+        switch (scenario) {
+            case "feed" -> {
+                String cursor = null;
+                for (int page = 0; page < 3; page++) {
+                    String path = "/api/jobs?limit=20" + (cursor != null ? "&cursor=" + cursor : "");
+                    HttpResponse<String> response = timed(recorders, "jobs-page", () -> client.get(path));
+                    JsonNode body = response.statusCode() == 200 ? objectMapper.readTree(response.body()) : null;
+                    cursor = body != null && body.hasNonNull("nextCursor") ? body.get("nextCursor").asText() : null;
+                    if (cursor == null) {
+                        break;
+                    }
+                }
+                timed(recorders, "ranked", () -> client.get("/api/jobs/feed?limit=20"));
+            }
+            case "sync" -> {
+                long started = System.nanoTime();
+                HttpResponse<String> trigger = client.postJson("/api/jobs/ingestions", Map.of());
+                JsonNode run = awaitIngestion(client, trigger);
+                record(recorders, "sync", System.nanoTime() - started, !"FAILED".equals(run.path("state").asText()));
+            }
+            case "profile" -> {
+                Map<String, Object> profile = new HashMap<>();
+                profile.put("targetRole", "Backend Engineer");
+                profile.put("bio", "Load test profile");
+                profile.put("experienceYears", ThreadLocalRandom.current().nextInt(15));
+                profile.put("preferredLocation", "Pune");
+                profile.put("minSalary", 600_000);
+                profile.put("skills", randomSkills(5 + ThreadLocalRandom.current().nextInt(26)));
+                timed(recorders, "profile-save", () -> client.postJson("/api/profile/setup", profile));
+                timed(recorders, "profile-read", () -> client.get("/api/profile/me"));
+            }
+            case "upload" -> {
+                byte[] resume = new byte[Integer.parseInt(option("upload-kb", "256")) * 1024];
+                ThreadLocalRandom.current().nextBytes(resume);
+                timed(recorders, "upload", () -> client.postFile("/api/profile/upload-resume", "resume.pdf", resume));
+            }
+            default -> throw new IllegalArgumentException(scenario);
+        }
+    }
+
+    // Polls until the run the trigger returned (or joined) has finished; returns that run
+    private JsonNode awaitIngestion(LoadClient client, HttpResponse<String> trigger) throws Exception {
+        if (trigger.statusCode() != 202) {
+            throw new IllegalStateException("Ingestion trigger returned " + trigger.statusCode() + ": " + trigger.body());
+        }
+        String runId = objectMapper.readTree(trigger.body()).path("runId").asText();
+        while (true) {
+            JsonNode status = objectMapper.readTree(client.get("/api/jobs/ingestions/status").body());
+            JsonNode last = status.path("lastRun");
+            if (runId.equals(last.path("runId").asText()) && !runId.equals(status.path("currentRun").path("runId").asText())) {
+                return last;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private HttpResponse<String> timed(Map<String, LatencyRecorder> recorders, String label, Request request)
+            throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        HttpResponse<String> response = request.send();
+        record(recorders, label, System.nanoTime() - started, response.statusCode() < 400);
+        return response;
+    }
+
+    private static void record(Map<String, LatencyRecorder> recorders, String label, long nanos, boolean ok) {
+        if (recorders != null) {
+            LatencyRecorder recorder;
+            synchronized (recorders) {
+                recorder = recorders.computeIfAbsent(label, LatencyRecorder::new);
+            }
+            recorder.record(nanos, ok);
+        }
+    }
+
+    private static List<String> randomSkills(int count) {
+        List<String> skills = new ArrayList<>(List.of(SKILLS));
+        Collections.shuffle(skills, ThreadLocalRandom.current());
+        return skills.subList(0, Math.min(count, skills.size()));
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        HttpResponse<String> send() throws IOException, InterruptedException;
+    }
+}
@@ -0,0 +1,6 @@
+-- Runs after Hibernate's ddl-auto. The batch upsert binds JSON columns as strings, which H2 would
+-- store as quoted JSON strings rather than arrays/objects, so they are kept as text here. Hibernate
+-- retypes such columns to json on every update, which is why this cannot simply create the table first.
+ALTER TABLE jobs ALTER COLUMN benefits SET DATA TYPE CLOB;
+ALTER TABLE jobs ALTER COLUMN qualifications SET DATA TYPE CLOB;
+ALTER TABLE jobs ALTER COLUMN full_description SET DATA TYPE CLOB;
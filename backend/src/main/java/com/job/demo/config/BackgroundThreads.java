@@ -0,0 +1,52 @@
+package com.job.demo.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Thread source for the app's own background workers (ingestion, swipe
+ * writer, feed queues) and the outbound HTTP client. Follows
+ * spring.threads.virtual.enabled, like Tomcat and @Scheduled do, so one
+ * switch moves every blocking path onto virtual threads.
+ */
+public class BackgroundThreads {
+
+    private final boolean virtual;
+
+    public BackgroundThreads(boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    // Threads are named prefix-N; platform threads are daemons, as virtual threads always are
+    public ThreadFactory factory(String prefix) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(prefix + "-").getVirtualThreadFactory();
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public ExecutorService singleThread(String prefix) {
+        return Executors.newSingleThreadExecutor(factory(prefix));
+    }
+
+    // A new virtual thread per task when enabled, otherwise a cached platform pool
+    public Executor perTask(String prefix) {
+        return virtual
+                ? new VirtualThreadTaskExecutor(prefix + "-")
+                : Executors.newCachedThreadPool(factory(prefix));
+    }
+}
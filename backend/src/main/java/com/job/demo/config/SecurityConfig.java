@@ -42,10 +42,15 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize -> authorize
                 // 1. USE EXPLICIT PATHS FIRST - Move these to the absolute top
+                // Bulk export and ops endpoints are for signed-in/internal callers, ahead of the public wildcard
+                .requestMatchers(HttpMethod.GET, "/api/jobs/export", "/api/jobs/cache/**",
+                        "/api/jobs/ingestions/**", "/api/jobs/fetch-external").authenticated()
                 .requestMatchers(HttpMethod.GET, "/api/jobs").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/jobs/**").permitAll()
                 // 2. Auth and Public Resources
                 .requestMatchers("/api/auth/**", "/login", "/register", "/uploads/**").permitAll()
+                // Scrape and probe endpoints; served on management.server.port, not the public one
+                .requestMatchers(HttpMethod.GET, "/actuator/health/**", "/actuator/prometheus").permitAll()
                 // 3. All other requests must be authenticated
                 .anyRequest().authenticated()
                 )
@@ -0,0 +1,16 @@
+package com.job.demo.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class ThreadingConfig {
+
+    // Virtual only when spring.threads.virtual.enabled=true and the JVM is 21 or newer
+    @Bean
+    public BackgroundThreads backgroundThreads(Environment environment) {
+        return new BackgroundThreads(Threading.VIRTUAL.isActive(environment));
+    }
+}
@@ -2,6 +2,7 @@ package com.job.demo.config;
 
 import java.nio.file.Paths;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
@@ -10,10 +11,16 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final String uploadDir;
+
+    public WebMvcConfig(@Value("${app.uploads.dir:uploads}") String uploadDir) {
+        this.uploadDir = uploadDir;
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // Maps /uploads/** URL path to the actual directory on disk
-        String uploadPath = Paths.get("uploads").toAbsolutePath().toUri().toString();
+        String uploadPath = Paths.get(uploadDir).toAbsolutePath().toUri().toString();
         
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations(uploadPath);
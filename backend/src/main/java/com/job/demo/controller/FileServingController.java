@@ -3,6 +3,7 @@ package com.job.demo.controller;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.MediaType;
@@ -14,6 +15,12 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class FileServingController {
 
+    private final Path uploadDir;
+
+    public FileServingController(@Value("${app.uploads.dir:uploads}") String uploadDir) {
+        this.uploadDir = Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
     // Helper to determine content type
     private MediaType getMediaTypeForFileName(String fileName) {
         if (fileName.endsWith(".pdf")) return MediaType.APPLICATION_PDF;
@@ -26,8 +33,8 @@ public class FileServingController {
     public ResponseEntity<Resource> serveFile(@PathVariable String folder, @PathVariable String filename) {
         try {
             // 1. Build the path to the file
-            // System.getProperty("user.dir") ensures we look in the project root/uploads
-            Path filePath = Paths.get(System.getProperty("user.dir"), "uploads", folder, filename);
+            // Relative app.uploads.dir values resolve against the working directory, as in FileStorageService
+            Path filePath = uploadDir.resolve(folder).resolve(filename);
             Resource resource = new UrlResource(filePath.toUri());
 
             // 2. Check if file exists
@@ -5,6 +5,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -18,13 +19,14 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.job.demo.dto.ProfileResponse;
 import com.job.demo.dto.ProfileSetupRequest;
+import com.job.demo.event.ProfileUpdatedEvent;
 import com.job.demo.model.Skill;
 import com.job.demo.model.User;
 import com.job.demo.model.UserProfile;
-import com.job.demo.repository.SkillRepository;
 import com.job.demo.repository.UserProfileRepository;
 import com.job.demo.repository.UserRepository;
 import com.job.demo.service.FileStorageService;
+import com.job.demo.service.SkillDictionary;
 
 @RestController
 @RequestMapping("/api/profile")
@@ -35,9 +37,11 @@ public class ProfileController {
     @Autowired
     private UserProfileRepository userProfileRepository;
     @Autowired
-    private SkillRepository skillRepository;
+    private SkillDictionary skillDictionary;
     @Autowired
     private FileStorageService fileStorageService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     @GetMapping("/me")
     public ResponseEntity<ProfileResponse> getMyProfile(Authentication authentication) {
@@ -46,6 +50,11 @@ public class ProfileController {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
         UserProfile profile = userProfileRepository.findByUser(user).orElse(null);
+        return ResponseEntity.ok(toResponse(user, profile));
+    }
+
+    // Pure mapping, kept apart from the lookups so it can be benchmarked on its own
+    static ProfileResponse toResponse(User user, UserProfile profile) {
         ProfileResponse response = new ProfileResponse();
         
         response.setFullName(user.getFullName());
@@ -86,7 +95,7 @@ public class ProfileController {
             response.setSocialLinks(new HashSet<>());
         }
 
-        return ResponseEntity.ok(response);
+        return response;
     }
 
     @PostMapping("/setup")
@@ -125,17 +134,13 @@ public class ProfileController {
         }
 
         if (request.getSkills() != null) {
-            Set<Skill> newSkills = new HashSet<>();
-            for (String skillName : request.getSkills()) {
-                String normalizedName = skillName.trim(); 
-                Skill skill = skillRepository.findByName(normalizedName)
-                        .orElseGet(() -> skillRepository.save(new Skill(normalizedName)));
-                newSkills.add(skill);
-            }
-            profile.setSkills(newSkills);
+            // Constant number of queries however many skills are sent; usually none
+            profile.setSkills(skillDictionary.resolve(request.getSkills()));
         }
 
         userProfileRepository.save(profile);
+        // Lets the precomputed feed queue re-rank against the new preferences
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(email));
         return ResponseEntity.ok("Profile updated successfully!");
     }
     
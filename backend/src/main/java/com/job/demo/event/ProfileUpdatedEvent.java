@@ -0,0 +1,15 @@
+package com.job.demo.event;
+
+// Published by ProfileController after a profile save commits
+public class ProfileUpdatedEvent {
+
+    private final String email;
+
+    public ProfileUpdatedEvent(String email) {
+        this.email = email;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
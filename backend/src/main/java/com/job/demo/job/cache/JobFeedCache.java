@@ -0,0 +1,230 @@
+package com.job.demo.job.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.demo.job.dto.FeedCacheStats;
+import com.job.demo.job.event.JobsChangedEvent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-process cache of public feed responses, kept as serialized (and
+ * optionally gzipped) JSON so a hit skips both MySQL and Jackson.
+ *
+ * Entries live in a generation; a sync swaps in an empty generation in one
+ * step, and loads that started before the swap are discarded rather than
+ * written into the new one. Concurrent misses on one key share a single
+ * load, so the burst of readers after a sync reaches MySQL once per key.
+ */
+@Component
+public class JobFeedCache {
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final int maxEntries;
+    private final boolean gzipEnabled;
+    private final long gzipMinBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private volatile Generation generation = new Generation();
+
+    public JobFeedCache(ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${jobs.feed-cache.max-size:32MB}") DataSize maxSize,
+                        @Value("${jobs.feed-cache.max-entries:1000}") int maxEntries,
+                        @Value("${jobs.feed-cache.gzip-enabled:true}") boolean gzipEnabled,
+                        @Value("${jobs.feed-cache.gzip-min-size:1KB}") DataSize gzipMinSize) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxSize.toBytes();
+        this.maxEntries = maxEntries;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinSize.toBytes();
+        registerMeters(meterRegistry);
+    }
+
+    // The loader runs on a miss and its result is serialized with the application ObjectMapper.
+    // A caller that misses while another is loading the same key waits for that load instead.
+    public CachedBody get(String key, Supplier<?> loader) {
+        Generation current = generation;
+        CachedBody cached = current.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        CompletableFuture<CachedBody> load = new CompletableFuture<>();
+        CompletableFuture<CachedBody> inFlight = current.loads.putIfAbsent(key, load);
+        if (inFlight != null) {
+            CachedBody shared = await(inFlight);
+            hits.increment(); // served without running the loader
+            return shared;
+        }
+        try {
+            // The previous load may have finished between the first lookup and claiming the key
+            cached = current.get(key);
+            if (cached != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                cached = serialize(loader.get());
+                if (cached.size() <= maxBytes) {
+                    current.put(key, cached);
+                }
+            }
+            load.complete(cached);
+            return cached;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            current.loads.remove(key, load);
+        }
+    }
+
+    public void invalidateAll() {
+        generation = new Generation();
+        invalidations.increment();
+    }
+
+    @EventListener
+    public void onJobsChanged(JobsChangedEvent event) {
+        invalidateAll();
+    }
+
+    public FeedCacheStats getStats() {
+        Generation current = generation;
+        synchronized (current) {
+            return new FeedCacheStats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(),
+                    current.entries.size(), current.bytes);
+        }
+    }
+
+    // jobs.feed.cache.*: the same numbers as getStats(), for the Prometheus scrape
+    private void registerMeters(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("jobs.feed.cache.gets", hits, LongAdder::sum).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("jobs.feed.cache.gets", misses, LongAdder::sum).tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("jobs.feed.cache.evictions", evictions, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("jobs.feed.cache.invalidations", invalidations, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("jobs.feed.cache.entries", this, cache -> cache.getStats().getEntries()).register(meterRegistry);
+        Gauge.builder("jobs.feed.cache.size", this, cache -> cache.getStats().getBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private static CachedBody await(CompletableFuture<CachedBody> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            // The loading caller already got the original; waiters see the same failure
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CachedBody serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            if (gzipEnabled && json.length >= gzipMinBytes) {
+                return new CachedBody(gzip(json), true);
+            }
+            return new CachedBody(json, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize feed response", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    private final class Generation {
+
+        // Access-ordered, so iteration starts at the least recently used entry
+        private final LinkedHashMap<String, CachedBody> entries = new LinkedHashMap<>(64, 0.75f, true);
+        private final Map<String, CompletableFuture<CachedBody>> loads = new ConcurrentHashMap<>();
+        private long bytes;
+
+        synchronized CachedBody get(String key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(String key, CachedBody body) {
+            if (this != generation) {
+                return; // invalidated while the body was being loaded
+            }
+            CachedBody previous = entries.put(key, body);
+            if (previous != null) {
+                bytes -= previous.size();
+            }
+            bytes += body.size();
+
+            Iterator<Map.Entry<String, CachedBody>> eldest = entries.entrySet().iterator();
+            while ((bytes > maxBytes || entries.size() > maxEntries) && eldest.hasNext()) {
+                bytes -= eldest.next().getValue().size();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    public static final class CachedBody {
+
+        private final byte[] bytes;
+        private final boolean gzipped;
+
+        CachedBody(byte[] bytes, boolean gzipped) {
+            this.bytes = bytes;
+            this.gzipped = gzipped;
+        }
+
+        public boolean isGzipped() {
+            return gzipped;
+        }
+
+        public int size() {
+            return bytes.length;
+        }
+
+        // Stored bytes as-is, or inflated for the rare client that does not accept gzip
+        public byte[] bytes(boolean clientAcceptsGzip) {
+            if (!gzipped || clientAcceptsGzip) {
+                return bytes;
+            }
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not inflate cached feed response", e);
+            }
+        }
+    }
+}
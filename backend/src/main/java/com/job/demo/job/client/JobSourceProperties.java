@@ -0,0 +1,98 @@
+package com.job.demo.job.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * The job feeds pulled by each ingestion run (jobs.ingest.sources[n].*).
+ * Every source speaks the n8n webhook format: a JSON array of job objects,
+ * or a single object.
+ */
+@Component
+@ConfigurationProperties(prefix = "jobs.ingest")
+public class JobSourceProperties {
+
+    private List<Source> sources = new ArrayList<>();
+    private int maxConcurrentSources = 4;
+    // Parsed chunks waiting for the writer; fetchers block once it is full
+    private int pipelineCapacity = 8;
+
+    public List<Source> getSources() {
+        return sources;
+    }
+
+    public void setSources(List<Source> sources) {
+        this.sources = sources;
+    }
+
+    public int getMaxConcurrentSources() {
+        return maxConcurrentSources;
+    }
+
+    public void setMaxConcurrentSources(int maxConcurrentSources) {
+        this.maxConcurrentSources = maxConcurrentSources;
+    }
+
+    public int getPipelineCapacity() {
+        return pipelineCapacity;
+    }
+
+    public void setPipelineCapacity(int pipelineCapacity) {
+        this.pipelineCapacity = pipelineCapacity;
+    }
+
+    public static class Source {
+
+        private String name;
+        private String url;
+        private boolean enabled = true;
+        // Whole fetch, from the first byte requested to the last chunk parsed
+        private Duration timeout = Duration.ofMinutes(5);
+        // How long this source's listings live after posting; null means jobs.expiry.default-ttl
+        private Duration ttl;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
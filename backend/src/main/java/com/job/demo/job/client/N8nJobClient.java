@@ -0,0 +1,116 @@
+package com.job.demo.job.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.demo.config.BackgroundThreads;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Pulls jobs from an n8n-style webhook and hands them on in bounded chunks
+ * while the response body is still being read, so only one chunk of parsed
+ * jobs per source is held in memory at a time.
+ */
+@Component
+public class N8nJobClient {
+
+    private static final Logger log = LoggerFactory.getLogger(N8nJobClient.class);
+
+    private static final TypeReference<Map<String, Object>> JOB_MAP = new TypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    public N8nJobClient(ObjectMapper objectMapper,
+                        BackgroundThreads backgroundThreads,
+                        ObservationRegistry observationRegistry,
+                        @Value("${jobs.n8n.connect-timeout:PT10S}") Duration connectTimeout,
+                        @Value("${jobs.n8n.read-timeout:PT2M}") Duration readTimeout) {
+        this.objectMapper = objectMapper;
+        // JDK HttpClient instead of HttpURLConnection, whose internal monitors pin virtual threads.
+        // Its executor follows the virtual-thread setting too.
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .executor(backgroundThreads.perTask("n8n-http"))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restTemplate = new RestTemplate(requestFactory);
+        // Built by hand rather than through RestTemplateBuilder, so it has to be handed the registry itself;
+        // each fetch then shows up as http.client.requests, timed until the body is fully read
+        this.restTemplate.setObservationRegistry(observationRegistry);
+    }
+
+    // Returns the number of jobs read; chunkConsumer runs on the calling thread
+    public int streamJobs(String url, int chunkSize, Consumer<List<Map<String, Object>>> chunkConsumer) {
+        Integer count = restTemplate.execute(url, HttpMethod.GET, null,
+                response -> readChunks(response.getBody(), chunkSize, chunkConsumer));
+        return count != null ? count : 0;
+    }
+
+    int readChunks(InputStream body, int chunkSize, Consumer<List<Map<String, Object>>> chunkConsumer)
+            throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken first = parser.nextToken();
+            if (first == null) {
+                return 0;
+            }
+            // n8n returns a bare object when the workflow yields a single item
+            if (first == JsonToken.START_OBJECT) {
+                chunkConsumer.accept(List.of(objectMapper.readValue(parser, JOB_MAP)));
+                return 1;
+            }
+            if (first != JsonToken.START_ARRAY) {
+                throw new IOException("Unexpected n8n payload, expected a JSON array but got " + first);
+            }
+
+            int count = 0;
+            int skipped = 0;
+            List<Map<String, Object>> chunk = new ArrayList<>(chunkSize);
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    // A cut-off body must fail the source, not pass as a shorter successful fetch
+                    throw new IOException("n8n payload ended before its array was closed, after " + count + " jobs");
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    // null, a string or a nested array where a job should be: skip it and keep reading
+                    parser.skipChildren();
+                    skipped++;
+                    continue;
+                }
+                chunk.add(objectMapper.readValue(parser, JOB_MAP));
+                count++;
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+            }
+            if (skipped > 0) {
+                log.warn("Skipped {} array elements that were not job objects", skipped);
+            }
+            return count;
+        }
+    }
+}
@@ -1,52 +1,232 @@
 package com.job.demo.job.controller;
 
-import java.util.List;
-import java.util.Map;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.job.demo.job.cache.JobFeedCache;
+import com.job.demo.job.cache.JobFeedCache.CachedBody;
+import com.job.demo.job.dto.FeedCacheStats;
+import com.job.demo.job.dto.IngestionStatusResponse;
+import com.job.demo.job.dto.JobFilter;
+import com.job.demo.job.feed.FeedQueueService;
 import com.job.demo.job.model.Job;
+import com.job.demo.job.service.JobExportService;
+import com.job.demo.job.service.JobGeoService;
+import com.job.demo.job.service.JobIngestionService;
+import com.job.demo.job.service.JobRankingService;
+import com.job.demo.job.service.JobSearchService;
 import com.job.demo.job.service.JobService;
+import com.job.demo.swipe.service.SeenJobsService;
 
 @RestController
 @RequestMapping("/api/jobs")
-@CrossOrigin(origins = "*")
 public class JobController {
 
-    private final JobService jobService;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
 
-    private static final String N8N_WEBHOOK_URL =
-        "http://localhost:5678/webhook-test/jobs";
+    private final JobService jobService;
+    private final JobIngestionService jobIngestionService;
+    private final JobFeedCache jobFeedCache;
+    private final JobRankingService jobRankingService;
+    private final JobSearchService jobSearchService;
+    private final SeenJobsService seenJobsService;
+    private final FeedQueueService feedQueueService;
+    private final JobExportService jobExportService;
+    private final JobGeoService jobGeoService;
 
-    public JobController(JobService jobService) {
+    public JobController(JobService jobService,
+                         JobIngestionService jobIngestionService,
+                         JobFeedCache jobFeedCache,
+                         JobRankingService jobRankingService,
+                         JobSearchService jobSearchService,
+                         SeenJobsService seenJobsService,
+                         FeedQueueService feedQueueService,
+                         JobExportService jobExportService,
+                         JobGeoService jobGeoService) {
         this.jobService = jobService;
+        this.jobIngestionService = jobIngestionService;
+        this.jobFeedCache = jobFeedCache;
+        this.jobRankingService = jobRankingService;
+        this.jobSearchService = jobSearchService;
+        this.seenJobsService = seenJobsService;
+        this.feedQueueService = feedQueueService;
+        this.jobExportService = jobExportService;
+        this.jobGeoService = jobGeoService;
     }
 
-    // ✅ Fetch jobs from DB
+    // ✅ Fetch job cards from DB (served from the pre-serialized feed cache when possible)
+    // Without paging or filter params this returns the full card list;
+    // with ?limit= and/or ?cursor= it returns one keyset page plus nextCursor.
+    // Optional filters: ?minSalary= (yearly, base currency), ?remote=, ?jobType=, ?near=&radiusKm=;
+    // filtered requests are always paged.
+    // Logged-in callers get pages without the jobs they already swiped on, built per request
+    // and without an ETag, since their content also changes with every swipe; their full list
+    // is filtered from a card list shared per catalog version rather than a fresh table scan.
     @GetMapping
-    public List<Job> getJobs() {
-        return jobService.getAllJobs();
+    public ResponseEntity<?> getJobs(Authentication authentication,
+                                     @RequestParam(required = false) String cursor,
+                                     @RequestParam(required = false) Integer limit,
+                                     @RequestParam(required = false) Long minSalary,
+                                     @RequestParam(required = false) Boolean remote,
+                                     @RequestParam(required = false) String jobType,
+                                     @RequestParam(required = false) String near,
+                                     @RequestParam(required = false) Double radiusKm,
+                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                     WebRequest webRequest) {
+        try {
+            JobFilter filter = new JobFilter(minSalary, remote, jobType, jobGeoService.placesNear(near, radiusKm));
+            boolean fullList = cursor == null && limit == null && filter.isEmpty();
+            if (authentication != null) {
+                Predicate<String> seen = seenJobsService.seenBy(authentication.getName());
+                return fullList
+                        ? ResponseEntity.ok(jobService.getAllJobCardsCached().stream().filter(c -> !seen.test(c.getId())).toList())
+                        : ResponseEntity.ok(jobService.getJobPage(cursor, limit, filter, seen));
+            }
+            boolean acceptsGzip = acceptsGzip(acceptEncoding);
+            long version = jobService.getCatalogVersion();
+            // Unchanged catalog: 304 before touching the cache or MySQL.
+            // checkNotModified also puts the ETag on the 200 response.
+            if (webRequest.checkNotModified(jobService.catalogTag(version) + (acceptsGzip ? "-gz" : ""))) {
+                return null;
+            }
+            // The version is part of the key, so a body cached before a sync is never served under a newer tag
+            CachedBody body = fullList
+                    ? jobFeedCache.get("all:" + version, jobService::getAllJobCards)
+                    : jobFeedCache.get("page:" + version + ":" + filter.cacheKey() + ":" + limit + ":" + cursor,
+                            () -> jobService.getJobPage(cursor, limit, filter));
+            return cachedJson(body, acceptsGzip);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
-    // ✅ Fetch from n8n → save → DB
-    @GetMapping("/fetch-external")
-    public ResponseEntity<?> fetchJobsFromN8n() {
+    // ✅ Personalized feed: jobs ranked against the logged-in user's profile (recency for anonymous callers)
+    // ?near=&radiusKm= keeps only jobs within that distance of a known city
+    @GetMapping("/feed")
+    public ResponseEntity<?> getRankedFeed(Authentication authentication,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(required = false) Integer limit,
+                                           @RequestParam(required = false) String near,
+                                           @RequestParam(required = false) Double radiusKm) {
+        try {
+            String email = authentication != null ? authentication.getName() : null;
+            return ResponseEntity.ok(jobRankingService.rankFeed(email, cursor, limit, jobGeoService.placesNear(near, radiusKm)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
-        List<Map<String, Object>> jobs =
-                restTemplate.getForObject(N8N_WEBHOOK_URL, List.class);
+    // ✅ Next page of the logged-in user's precomputed feed queue (each call moves further down it)
+    @GetMapping("/feed/next")
+    public ResponseEntity<?> getNextFeedPage(Authentication authentication,
+                                             @RequestParam(required = false) Integer limit) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(feedQueueService.next(authentication.getName(), limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
-        if (jobs == null || jobs.isEmpty()) {
-            return ResponseEntity.badRequest().body("No jobs received from n8n");
+    // ✅ Keyword search over title, company, location and description; the last word matches as a prefix
+    @GetMapping("/search")
+    public ResponseEntity<?> searchJobs(@RequestParam String q,
+                                        @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(jobSearchService.search(q, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
+    }
 
-        jobService.syncJobsFromMaps(jobs);
+    // ✅ Full job including benefits, qualifications and description, loaded when a card is opened
+    // Tagged with the catalog version: any sync may have changed this job, no sync means it has not
+    @GetMapping("/{id}")
+    public ResponseEntity<Job> getJob(@PathVariable String id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(jobService.catalogTag(jobService.getCatalogVersion()))) {
+            return null;
+        }
+        return jobService.getJob(id)
+                .map(job -> ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(job))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 
-        return ResponseEntity.ok("Jobs synced: " + jobs.size());
+    // ✅ Whole catalog as NDJSON (one job per line), streamed from MySQL; gzipped when the client accepts it
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportJobs(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                jobExportService.writeNdjson(compressed);
+                compressed.finish();
+            } else {
+                jobExportService.writeNdjson(out);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/cache/stats")
+    public FeedCacheStats getFeedCacheStats() {
+        return jobFeedCache.getStats();
+    }
+
+    // ✅ Start a background n8n → DB sync; joins the in-progress run if there is one
+    @PostMapping("/ingestions")
+    public ResponseEntity<?> triggerIngestion() {
+        return ResponseEntity.accepted().body(jobIngestionService.trigger("manual"));
+    }
+
+    @GetMapping("/ingestions/status")
+    public IngestionStatusResponse getIngestionStatus() {
+        return jobIngestionService.getStatus();
+    }
+
+    // Kept for older clients: now only triggers the background run and returns immediately
+    @GetMapping("/fetch-external")
+    public ResponseEntity<?> fetchJobsFromN8n() {
+        return ResponseEntity.accepted().body(jobIngestionService.trigger("fetch-external"));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    // no-cache: clients keep the body but revalidate it with If-None-Match on every use
+    private static ResponseEntity<byte[]> cachedJson(CachedBody body, boolean acceptsGzip) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (body.isGzipped() && acceptsGzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body.bytes(acceptsGzip));
     }
 }
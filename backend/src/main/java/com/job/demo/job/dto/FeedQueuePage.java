@@ -0,0 +1,34 @@
+package com.job.demo.job.dto;
+
+import java.util.List;
+
+public class FeedQueuePage {
+
+    private List<JobCardResponse> items;
+
+    // Jobs still queued for this user; 0 means the end of the feed until the next sync or profile change
+    private int remaining;
+
+    public FeedQueuePage() {}
+
+    public FeedQueuePage(List<JobCardResponse> items, int remaining) {
+        this.items = items;
+        this.remaining = remaining;
+    }
+
+    public List<JobCardResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<JobCardResponse> items) {
+        this.items = items;
+    }
+
+    public int getRemaining() {
+        return remaining;
+    }
+
+    public void setRemaining(int remaining) {
+        this.remaining = remaining;
+    }
+}
@@ -0,0 +1,91 @@
+package com.job.demo.job.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// One background ingestion run; written by the ingestion worker, read by status requests
+public class IngestionRun {
+
+    // PARTIAL: some sources failed or timed out, the rest were synced
+    public enum State { RUNNING, SUCCEEDED, PARTIAL, FAILED }
+
+    private final String runId;
+    private final String trigger;
+    private final Instant startedAt;
+    private volatile State state = State.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile JobSyncResult result;
+    private volatile String error;
+    private final List<SourceRun> sources = new CopyOnWriteArrayList<>();
+
+    public IngestionRun(String runId, String trigger, Instant startedAt) {
+        this.runId = runId;
+        this.trigger = trigger;
+        this.startedAt = startedAt;
+    }
+
+    public void succeed(JobSyncResult result) {
+        this.result = result;
+        this.finishedAt = Instant.now();
+        this.state = State.SUCCEEDED;
+    }
+
+    public void partial(JobSyncResult result, String error) {
+        this.result = result;
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.state = State.PARTIAL;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.state = State.FAILED;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public String getTrigger() {
+        return trigger;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    // Elapsed time so far while running, total time once finished
+    public long getDurationMs() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        return Duration.between(startedAt, end).toMillis();
+    }
+
+    public JobSyncResult getResult() {
+        return result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public SourceRun addSource(String name) {
+        SourceRun source = new SourceRun(name);
+        sources.add(source);
+        return source;
+    }
+
+    public List<SourceRun> getSources() {
+        return sources;
+    }
+}
@@ -0,0 +1,33 @@
+package com.job.demo.job.dto;
+
+public class IngestionStatusResponse {
+
+    // Null when no run is in progress
+    private IngestionRun currentRun;
+
+    // Null until the first run has finished
+    private IngestionRun lastRun;
+
+    public IngestionStatusResponse() {}
+
+    public IngestionStatusResponse(IngestionRun currentRun, IngestionRun lastRun) {
+        this.currentRun = currentRun;
+        this.lastRun = lastRun;
+    }
+
+    public IngestionRun getCurrentRun() {
+        return currentRun;
+    }
+
+    public void setCurrentRun(IngestionRun currentRun) {
+        this.currentRun = currentRun;
+    }
+
+    public IngestionRun getLastRun() {
+        return lastRun;
+    }
+
+    public void setLastRun(IngestionRun lastRun) {
+        this.lastRun = lastRun;
+    }
+}
@@ -0,0 +1,83 @@
+package com.job.demo.job.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.job.demo.job.model.Job;
+
+// Feed card: the short columns of a job, without the LONGTEXT detail fields
+public class JobCardResponse {
+
+    private String id;
+    private String title;
+    private String company;
+    private String companyLogo;
+    private BigDecimal rating;
+    private String location;
+    private String jobType;
+    private Integer salaryAmount;
+    private String salaryCurrency;
+    private String salaryUnit;
+    private String postedAgo;
+    private String applyUrl;
+
+    // Only needed to build the next keyset cursor
+    @JsonIgnore
+    private LocalDateTime createdAt;
+
+    public JobCardResponse() {}
+
+    // Used by the JPQL constructor expressions in JobRepository
+    public JobCardResponse(String id, String title, String company, String companyLogo, BigDecimal rating,
+                           String location, String jobType, Integer salaryAmount, String salaryCurrency,
+                           String salaryUnit, String postedAgo, String applyUrl, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.company = company;
+        this.companyLogo = companyLogo;
+        this.rating = rating;
+        this.location = location;
+        this.jobType = jobType;
+        this.salaryAmount = salaryAmount;
+        this.salaryCurrency = salaryCurrency;
+        this.salaryUnit = salaryUnit;
+        this.postedAgo = postedAgo;
+        this.applyUrl = applyUrl;
+        this.createdAt = createdAt;
+    }
+
+    public static JobCardResponse from(Job job) {
+        return new JobCardResponse(job.getId(), job.getTitle(), job.getCompany(), job.getCompanyLogo(),
+                job.getRating(), job.getLocation(), job.getJobType(), job.getSalaryAmount(),
+                job.getSalaryCurrency(), job.getSalaryUnit(), job.getPostedAgo(), job.getApplyUrl(),
+                job.getCreatedAt());
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getCompany() { return company; }
+    public void setCompany(String company) { this.company = company; }
+    public String getCompanyLogo() { return companyLogo; }
+    public void setCompanyLogo(String companyLogo) { this.companyLogo = companyLogo; }
+    public BigDecimal getRating() { return rating; }
+    public void setRating(BigDecimal rating) { this.rating = rating; }
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+    public String getJobType() { return jobType; }
+    public void setJobType(String jobType) { this.jobType = jobType; }
+    public Integer getSalaryAmount() { return salaryAmount; }
+    public void setSalaryAmount(Integer salaryAmount) { this.salaryAmount = salaryAmount; }
+    public String getSalaryCurrency() { return salaryCurrency; }
+    public void setSalaryCurrency(String salaryCurrency) { this.salaryCurrency = salaryCurrency; }
+    public String getSalaryUnit() { return salaryUnit; }
+    public void setSalaryUnit(String salaryUnit) { this.salaryUnit = salaryUnit; }
+    public String getPostedAgo() { return postedAgo; }
+    public void setPostedAgo(String postedAgo) { this.postedAgo = postedAgo; }
+    public String getApplyUrl() { return applyUrl; }
+    public void setApplyUrl(String applyUrl) { this.applyUrl = applyUrl; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,56 @@
+package com.job.demo.job.dto;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+// Optional /api/jobs filters; each one maps to an indexed column
+public class JobFilter {
+
+    public static final JobFilter NONE = new JobFilter(null, null, null);
+
+    // Yearly pay in the base currency (see SalaryNormalizer)
+    private final Long minSalary;
+    private final Boolean remote;
+    private final String jobType;
+    // Gazetteer keys of the places within the requested radius; null means no location filter
+    private final Set<String> locationKeys;
+
+    public JobFilter(Long minSalary, Boolean remote, String jobType) {
+        this(minSalary, remote, jobType, null);
+    }
+
+    public JobFilter(Long minSalary, Boolean remote, String jobType, Set<String> locationKeys) {
+        if (minSalary != null && minSalary < 0) {
+            throw new IllegalArgumentException("minSalary must not be negative");
+        }
+        this.minSalary = minSalary;
+        this.remote = remote;
+        this.jobType = jobType == null || jobType.isBlank() ? null : jobType.trim();
+        this.locationKeys = locationKeys != null ? new TreeSet<>(locationKeys) : null;
+    }
+
+    public Long getMinSalary() {
+        return minSalary;
+    }
+
+    public Boolean getRemote() {
+        return remote;
+    }
+
+    public String getJobType() {
+        return jobType;
+    }
+
+    public Set<String> getLocationKeys() {
+        return locationKeys;
+    }
+
+    public boolean isEmpty() {
+        return minSalary == null && remote == null && jobType == null && locationKeys == null;
+    }
+
+    // Distinguishes cached pages per filter combination
+    public String cacheKey() {
+        return minSalary + ":" + remote + ":" + jobType + ":" + locationKeys;
+    }
+}
@@ -0,0 +1,34 @@
+package com.job.demo.job.dto;
+
+import java.util.List;
+
+public class JobPageResponse {
+
+    private List<JobCardResponse> items;
+
+    // Null when there are no more pages
+    private String nextCursor;
+
+    public JobPageResponse() {}
+
+    public JobPageResponse(List<JobCardResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<JobCardResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<JobCardResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,42 @@
+package com.job.demo.job.dto;
+
+import java.util.List;
+
+public class JobSearchResponse {
+
+    private String query;
+    private int totalMatches;
+    private List<JobCardResponse> items;
+
+    public JobSearchResponse() {}
+
+    public JobSearchResponse(String query, int totalMatches, List<JobCardResponse> items) {
+        this.query = query;
+        this.totalMatches = totalMatches;
+        this.items = items;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public int getTotalMatches() {
+        return totalMatches;
+    }
+
+    public void setTotalMatches(int totalMatches) {
+        this.totalMatches = totalMatches;
+    }
+
+    public List<JobCardResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<JobCardResponse> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,80 @@
+package com.job.demo.job.dto;
+
+// Row counts reported by a job sync; chunk results are summed into one total
+public class JobSyncResult {
+
+    private int received;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    // Dropped because they were already past their TTL when received
+    private int expired;
+    // Near-copies of another posting under a different id, folded into that posting
+    private int duplicates;
+
+    public JobSyncResult() {}
+
+    public JobSyncResult(int received, int inserted, int updated, int unchanged) {
+        this.received = received;
+        this.inserted = inserted;
+        this.updated = updated;
+        this.unchanged = unchanged;
+    }
+
+    public void add(JobSyncResult other) {
+        this.received += other.received;
+        this.inserted += other.inserted;
+        this.updated += other.updated;
+        this.unchanged += other.unchanged;
+        this.expired += other.expired;
+        this.duplicates += other.duplicates;
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(int unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public int getExpired() {
+        return expired;
+    }
+
+    public void setExpired(int expired) {
+        this.expired = expired;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+}
@@ -0,0 +1,51 @@
+package com.job.demo.job.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a ranked feed: the (score, id) of the last job returned.
+ * The score travels as its exact float bits so the next page resumes
+ * precisely after it. Sent over the wire as an opaque token.
+ */
+public class RankCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final float score;
+    private final String id;
+
+    public RankCursor(float score, String id) {
+        this.score = score;
+        this.id = id;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = Integer.toHexString(Float.floatToIntBits(score)) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns null for a missing token, throws IllegalArgumentException for a malformed one
+    public static RankCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int split = raw.indexOf(SEPARATOR);
+        if (split <= 0 || split == raw.length() - 1) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        // parseUnsignedInt throws NumberFormatException, an IllegalArgumentException
+        float score = Float.intBitsToFloat(Integer.parseUnsignedInt(raw.substring(0, split), 16));
+        return new RankCursor(score, raw.substring(split + 1));
+    }
+}
@@ -0,0 +1,83 @@
+package com.job.demo.job.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// One source's share of an ingestion run; written by its fetcher and the writer, read by status requests
+public class SourceRun {
+
+    public enum State { QUEUED, RUNNING, SUCCEEDED, FAILED, TIMED_OUT }
+
+    private final String name;
+    private final JobSyncResult result = new JobSyncResult();
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile int chunks;
+    private volatile String error;
+
+    public SourceRun(String name) {
+        this.name = name;
+    }
+
+    public synchronized void start() {
+        startedAt = Instant.now();
+        state = State.RUNNING;
+    }
+
+    // Only the first outcome sticks, so a fetch cancelled for its timeout stays TIMED_OUT
+    public synchronized boolean finish(State outcome, String error) {
+        if (state != State.RUNNING) {
+            return false;
+        }
+        this.state = outcome;
+        this.error = error;
+        this.finishedAt = Instant.now();
+        return true;
+    }
+
+    // Called by the writer only
+    public synchronized void addWritten(JobSyncResult chunkResult) {
+        result.add(chunkResult);
+        chunks++;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    // Fetch time: elapsed so far while running, total once finished
+    public long getDurationMs() {
+        if (startedAt == null) {
+            return 0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        return Duration.between(startedAt, end).toMillis();
+    }
+
+    public synchronized JobSyncResult getResult() {
+        JobSyncResult copy = new JobSyncResult();
+        copy.add(result);
+        return copy;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
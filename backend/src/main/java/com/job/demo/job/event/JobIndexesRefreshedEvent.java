@@ -0,0 +1,29 @@
+package com.job.demo.job.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published by JobIndexMaintainer once every JobIndex has applied and
+ * refreshed the JobsChangedEvents since the previous one (several sync
+ * chunks are usually folded into one), for consumers that read from the
+ * indexes rather than from MySQL.
+ */
+public class JobIndexesRefreshedEvent {
+
+    private final Collection<String> upsertedIds;
+    private final Collection<String> removedIds;
+
+    public JobIndexesRefreshedEvent(Collection<String> upsertedIds, Collection<String> removedIds) {
+        this.upsertedIds = List.copyOf(upsertedIds);
+        this.removedIds = List.copyOf(removedIds);
+    }
+
+    public Collection<String> getUpsertedIds() {
+        return upsertedIds;
+    }
+
+    public Collection<String> getRemovedIds() {
+        return removedIds;
+    }
+}
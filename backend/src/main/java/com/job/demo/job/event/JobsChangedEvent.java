@@ -0,0 +1,27 @@
+package com.job.demo.job.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published by JobService after a sync chunk commits with at least one
+ * inserted, updated or removed job. Listeners run on the syncing thread.
+ */
+public class JobsChangedEvent {
+
+    private final Collection<String> upsertedIds;
+    private final Collection<String> removedIds;
+
+    public JobsChangedEvent(Collection<String> upsertedIds, Collection<String> removedIds) {
+        this.upsertedIds = List.copyOf(upsertedIds);
+        this.removedIds = List.copyOf(removedIds);
+    }
+
+    public Collection<String> getUpsertedIds() {
+        return upsertedIds;
+    }
+
+    public Collection<String> getRemovedIds() {
+        return removedIds;
+    }
+}
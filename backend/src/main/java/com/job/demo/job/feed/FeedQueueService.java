@@ -0,0 +1,194 @@
+package com.job.demo.job.feed;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.job.demo.config.BackgroundThreads;
+import com.job.demo.event.ProfileUpdatedEvent;
+import com.job.demo.job.dto.FeedQueuePage;
+import com.job.demo.job.dto.JobCardResponse;
+import com.job.demo.job.event.JobIndexesRefreshedEvent;
+import com.job.demo.job.feed.UserFeedQueue.PendingChanges;
+import com.job.demo.job.index.JobMatchIndex;
+import com.job.demo.job.index.JobMatchIndex.RankedJob;
+import com.job.demo.job.index.MatchProfile;
+import com.job.demo.job.service.JobRankingService;
+import com.job.demo.job.service.JobService;
+import com.job.demo.swipe.service.SeenJobsService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Materialized per-user feeds. A user's queue is ranked once (on first
+ * open), then kept current in the background: each index refresh after a
+ * sync merges only the changed jobs into every active queue, and a profile
+ * save re-ranks that user's queue. Work runs on a small bounded pool; when
+ * it is saturated the queue is marked for a rebuild on next read instead.
+ *
+ * Only users who opened the feed within the active window keep a queue.
+ */
+@Service
+public class FeedQueueService {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedQueueService.class);
+
+    private final JobMatchIndex jobMatchIndex;
+    private final JobRankingService jobRankingService;
+    private final JobService jobService;
+    private final SeenJobsService seenJobsService;
+    private final int maxQueueSize;
+    private final int maxUsers;
+    private final long activeWindowMillis;
+    private final ThreadPoolExecutor workers;
+
+    private final Map<String, UserFeedQueue> queues = new ConcurrentHashMap<>();
+
+    public FeedQueueService(JobMatchIndex jobMatchIndex,
+                            JobRankingService jobRankingService,
+                            JobService jobService,
+                            SeenJobsService seenJobsService,
+                            BackgroundThreads backgroundThreads,
+                            @Value("${jobs.feed-queue.max-size:500}") int maxQueueSize,
+                            @Value("${jobs.feed-queue.max-users:5000}") int maxUsers,
+                            @Value("${jobs.feed-queue.active-window:PT24H}") Duration activeWindow,
+                            @Value("${jobs.feed-queue.workers:2}") int workerCount,
+                            @Value("${jobs.feed-queue.backlog:1000}") int backlog) {
+        this.jobMatchIndex = jobMatchIndex;
+        this.jobRankingService = jobRankingService;
+        this.jobService = jobService;
+        this.seenJobsService = seenJobsService;
+        this.maxQueueSize = maxQueueSize;
+        this.maxUsers = maxUsers;
+        this.activeWindowMillis = activeWindow.toMillis();
+        // Bounded even on virtual threads: the pool caps concurrent rescoring, not thread cost
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(backlog), backgroundThreads.factory("feed-queue"));
+    }
+
+    // Serves the next page from the user's queue, ranking it first if there is none yet
+    public FeedQueuePage next(String email, Integer limit) {
+        int pageSize = jobService.resolvePageSize(limit);
+        UserFeedQueue queue = queueFor(email);
+        queue.touch();
+        Predicate<String> seen = seenJobsService.seenBy(email);
+        // A lock rather than synchronized: rebuilding reads the profile from MySQL, and blocking
+        // inside a monitor would pin the carrier thread when requests run on virtual threads
+        queue.getServeLock().lock();
+        try {
+            if (queue.needsRebuild()) {
+                rebuild(queue, seen);
+            }
+            List<JobCardResponse> page = queue.pop(pageSize, seen, jobMatchIndex::getCard);
+            return new FeedQueuePage(page, queue.remaining());
+        } finally {
+            queue.getServeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onIndexesRefreshed(JobIndexesRefreshedEvent event) {
+        Set<String> changed = new LinkedHashSet<>(event.getUpsertedIds());
+        changed.addAll(event.getRemovedIds());
+        for (UserFeedQueue queue : queues.values()) {
+            schedule(queue, changed, false);
+        }
+    }
+
+    @EventListener
+    public void onProfileUpdated(ProfileUpdatedEvent event) {
+        UserFeedQueue queue = queues.get(event.getEmail());
+        if (queue != null) {
+            schedule(queue, Set.of(), true);
+        }
+    }
+
+    // Drops queues of users who have not opened the feed within the active window
+    @Scheduled(fixedDelayString = "${jobs.feed-queue.eviction-interval:PT5M}")
+    public void evictInactive() {
+        long cutoff = System.currentTimeMillis() - activeWindowMillis;
+        queues.values().removeIf(queue -> queue.getLastAccessMillis() < cutoff);
+    }
+
+    // Eviction happens outside any map operation; ConcurrentHashMap forbids
+    // touching the map from inside computeIfAbsent's mapping function
+    private UserFeedQueue queueFor(String email) {
+        UserFeedQueue queue = queues.get(email);
+        if (queue != null) {
+            return queue;
+        }
+        if (queues.size() >= maxUsers) {
+            // Over the cap: make room by dropping the least recently active queue
+            queues.values().stream()
+                    .min(Comparator.comparingLong(UserFeedQueue::getLastAccessMillis))
+                    .ifPresent(oldest -> queues.remove(oldest.getEmail(), oldest));
+        }
+        UserFeedQueue created = new UserFeedQueue(email);
+        UserFeedQueue raced = queues.putIfAbsent(email, created);
+        return raced != null ? raced : created;
+    }
+
+    private void schedule(UserFeedQueue queue, Set<String> changedIds, boolean rebuild) {
+        if (!queue.addPending(changedIds, rebuild)) {
+            return; // a pass is already queued and will pick these up
+        }
+        try {
+            workers.execute(() -> apply(queue));
+        } catch (RejectedExecutionException e) {
+            queue.takePending();
+            queue.invalidate();
+        }
+    }
+
+    private void apply(UserFeedQueue queue) {
+        PendingChanges changes = queue.takePending();
+        try {
+            Predicate<String> seen = seenJobsService.seenBy(queue.getEmail());
+            MatchProfile profile = queue.getProfile();
+            if (profile == null) {
+                return; // never built (or invalidated); the next read ranks from scratch
+            }
+            if (changes.isRebuild() || changes.getChangedIds().size() > maxQueueSize) {
+                rebuild(queue, seen);
+                return;
+            }
+            List<RankedJob> rescored = new ArrayList<>();
+            for (RankedJob ranked : jobMatchIndex.score(profile, changes.getChangedIds())) {
+                if (!seen.test(ranked.getCard().getId())) {
+                    rescored.add(ranked);
+                }
+            }
+            queue.merge(changes.getChangedIds(), rescored, maxQueueSize);
+        } catch (RuntimeException e) {
+            queue.invalidate();
+            log.warn("Feed queue update for {} failed; it will be rebuilt on next read", queue.getEmail(), e);
+        }
+    }
+
+    private void rebuild(UserFeedQueue queue, Predicate<String> seen) {
+        MatchProfile profile = jobRankingService.profileFor(queue.getEmail());
+        queue.replace(profile, jobMatchIndex.topK(profile, maxQueueSize, null, seen));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
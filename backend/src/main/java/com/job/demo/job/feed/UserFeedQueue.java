@@ -0,0 +1,187 @@
+package com.job.demo.job.feed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.job.demo.job.dto.JobCardResponse;
+import com.job.demo.job.index.JobMatchIndex.RankedJob;
+import com.job.demo.job.index.MatchProfile;
+
+/**
+ * One user's materialized feed: job ids in rank order with their scores,
+ * held in parallel arrays, plus a head pointer. Serving a page advances the
+ * head; a sync merges changed jobs into the part not yet served. A queue
+ * served to the end stays empty until a sync brings changed jobs or the
+ * user's profile changes; re-ranking it on read would serve the same
+ * unswiped cards again.
+ *
+ * All methods are synchronized on the queue; a queue is only ever touched
+ * by its own user's requests and the one worker applying its changes.
+ * Requests additionally hold the serve lock across rebuild-and-pop.
+ */
+class UserFeedQueue {
+
+    private final String email;
+    private final ReentrantLock serveLock = new ReentrantLock();
+    private volatile long lastAccessMillis = System.currentTimeMillis();
+
+    private MatchProfile profile;
+    private String[] ids = new String[0];
+    private float[] scores = new float[0];
+    private int head;
+
+    // Changes that arrived since the last worker pass
+    private final Set<String> pendingChanged = new HashSet<>();
+    private boolean pendingRebuild;
+    private boolean scheduled;
+
+    UserFeedQueue(String email) {
+        this.email = email;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    ReentrantLock getServeLock() {
+        return serveLock;
+    }
+
+    long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    void touch() {
+        lastAccessMillis = System.currentTimeMillis();
+    }
+
+    synchronized MatchProfile getProfile() {
+        return profile;
+    }
+
+    synchronized int remaining() {
+        return ids.length - head;
+    }
+
+    // Never built, or invalidated; an exhausted queue is not rebuilt here
+    synchronized boolean needsRebuild() {
+        return profile == null;
+    }
+
+    synchronized void replace(MatchProfile profile, List<RankedJob> ranked) {
+        this.profile = profile;
+        this.ids = new String[ranked.size()];
+        this.scores = new float[ranked.size()];
+        for (int i = 0; i < ranked.size(); i++) {
+            ids[i] = ranked.get(i).getCard().getId();
+            scores[i] = ranked.get(i).getScore();
+        }
+        this.head = 0;
+    }
+
+    // Forces a full rebuild on the next read, for when an incremental pass could not be scheduled
+    synchronized void invalidate() {
+        this.profile = null;
+    }
+
+    // Next page from the head in O(page size); ids hidden since the build or no longer indexed are skipped
+    synchronized List<JobCardResponse> pop(int count, Predicate<String> hidden, Function<String, JobCardResponse> cards) {
+        List<JobCardResponse> page = new ArrayList<>(count);
+        while (page.size() < count && head < ids.length) {
+            String id = ids[head++];
+            if (hidden.test(id)) {
+                continue;
+            }
+            JobCardResponse card = cards.apply(id);
+            if (card != null) {
+                page.add(card);
+            }
+        }
+        return page;
+    }
+
+    // Drops the given ids from the unserved part and merges in their new ranking; both sides are best first
+    synchronized void merge(Collection<String> dropped, List<RankedJob> incoming, int maxSize) {
+        Set<String> drop = new HashSet<>(dropped);
+        int capacity = Math.min(maxSize, ids.length - head + incoming.size());
+        String[] mergedIds = new String[capacity];
+        float[] mergedScores = new float[capacity];
+
+        int out = 0;
+        int i = head;
+        int j = 0;
+        while (out < capacity) {
+            while (i < ids.length && drop.contains(ids[i])) {
+                i++;
+            }
+            boolean takeExisting;
+            if (i < ids.length && j < incoming.size()) {
+                RankedJob next = incoming.get(j);
+                takeExisting = scores[i] > next.getScore()
+                        || (scores[i] == next.getScore() && ids[i].compareTo(next.getCard().getId()) < 0);
+            } else if (i < ids.length) {
+                takeExisting = true;
+            } else if (j < incoming.size()) {
+                takeExisting = false;
+            } else {
+                break;
+            }
+            if (takeExisting) {
+                mergedIds[out] = ids[i];
+                mergedScores[out++] = scores[i++];
+            } else {
+                mergedIds[out] = incoming.get(j).getCard().getId();
+                mergedScores[out++] = incoming.get(j++).getScore();
+            }
+        }
+
+        this.ids = out == capacity ? mergedIds : Arrays.copyOf(mergedIds, out);
+        this.scores = out == capacity ? mergedScores : Arrays.copyOf(mergedScores, out);
+        this.head = 0;
+    }
+
+    // Returns true when the caller should schedule a worker pass for this queue
+    synchronized boolean addPending(Collection<String> changedIds, boolean rebuild) {
+        pendingChanged.addAll(changedIds);
+        pendingRebuild |= rebuild;
+        if (scheduled) {
+            return false;
+        }
+        scheduled = true;
+        return true;
+    }
+
+    synchronized PendingChanges takePending() {
+        PendingChanges changes = new PendingChanges(Set.copyOf(pendingChanged), pendingRebuild);
+        pendingChanged.clear();
+        pendingRebuild = false;
+        scheduled = false;
+        return changes;
+    }
+
+    static final class PendingChanges {
+
+        private final Set<String> changedIds;
+        private final boolean rebuild;
+
+        PendingChanges(Set<String> changedIds, boolean rebuild) {
+            this.changedIds = changedIds;
+            this.rebuild = rebuild;
+        }
+
+        Set<String> getChangedIds() {
+            return changedIds;
+        }
+
+        boolean isRebuild() {
+            return rebuild;
+        }
+    }
+}
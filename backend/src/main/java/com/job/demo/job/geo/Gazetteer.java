@@ -0,0 +1,117 @@
+package com.job.demo.job.geo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bundled city list used to turn free-text locations ("Bangalore, KA",
+ * "Bengaluru (Hybrid)") into one canonical place key with coordinates.
+ * Lookups never leave the process.
+ */
+@Component
+public class Gazetteer {
+
+    private static final Pattern PARENTHESES = Pattern.compile("\\([^)]*\\)|\\[[^]]*]");
+    private static final Pattern SEGMENT_SEPARATORS = Pattern.compile("[,/|;]| - ");
+    private static final Pattern NON_LETTERS = Pattern.compile("[^\\p{L}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final int MAX_ALIAS_WORDS = 3;
+
+    private final Map<String, Place> placesByKey = new HashMap<>();
+    private final Map<String, Place> placesByAlias = new HashMap<>();
+
+    public Gazetteer(@Value("${jobs.geo.gazetteer:classpath:gazetteer.csv}") Resource source) {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isBlank() && !line.startsWith("#")) {
+                    add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read gazetteer " + source, e);
+        }
+    }
+
+    private void add(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 5) {
+            throw new IllegalStateException("Malformed gazetteer line: " + line);
+        }
+        Place place = new Place(fields[0].trim(), fields[1].trim(),
+                Double.parseDouble(fields[2].trim()), Double.parseDouble(fields[3].trim()));
+        placesByKey.put(place.getKey(), place);
+        placesByAlias.put(normalize(place.getName()), place);
+        for (String alias : fields[4].split("\\|")) {
+            if (!alias.isBlank()) {
+                placesByAlias.put(normalize(alias), place);
+            }
+        }
+    }
+
+    public Place get(String key) {
+        return key != null ? placesByKey.get(key) : null;
+    }
+
+    public Collection<Place> getPlaces() {
+        return placesByKey.values();
+    }
+
+    // Null when nothing in the text names a known city (e.g. "Remote")
+    public Place resolve(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String stripped = PARENTHESES.matcher(text).replaceAll(" ");
+        List<List<String>> segments = new ArrayList<>();
+        for (String segment : SEGMENT_SEPARATORS.split(stripped)) {
+            String normalized = normalize(segment);
+            if (!normalized.isEmpty()) {
+                // Whole segments first: "Bangalore, KA" is decided by its first part
+                Place place = placesByAlias.get(normalized);
+                if (place != null) {
+                    return place;
+                }
+                segments.add(List.of(normalized.split(" ")));
+            }
+        }
+        // Then the longest run of words that is a known alias ("Greater Bangalore Area")
+        for (int length = MAX_ALIAS_WORDS; length >= 1; length--) {
+            for (List<String> words : segments) {
+                for (int from = 0; from + length <= words.size(); from++) {
+                    Place place = placesByAlias.get(String.join(" ", words.subList(from, from + length)));
+                    if (place != null) {
+                        return place;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    public String resolveKey(String text) {
+        Place place = resolve(text);
+        return place != null ? place.getKey() : null;
+    }
+
+    // Lower case, accents removed, anything but letters collapsed to single spaces
+    static String normalize(String text) {
+        String decomposed = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_LETTERS.matcher(decomposed.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
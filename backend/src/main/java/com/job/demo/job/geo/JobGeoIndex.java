@@ -0,0 +1,166 @@
+package com.job.demo.job.geo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.job.demo.job.index.JobIndex;
+import com.job.demo.job.model.Job;
+
+/**
+ * Uniform lat/lon grid over the places that currently have jobs, plus the
+ * job ids at each place. A radius query only visits the grid cells that
+ * overlap the circle's bounding box, then checks real distances for the
+ * handful of places found there.
+ */
+@Component
+public class JobGeoIndex implements JobIndex {
+
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private final Gazetteer gazetteer;
+    private final double cellDegrees;
+    private final int lonCells;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, List<Place>> cells = new HashMap<>();
+    private final Map<String, Set<String>> jobsByPlace = new HashMap<>();
+    private final Map<String, String> placeByJob = new HashMap<>();
+
+    public JobGeoIndex(Gazetteer gazetteer,
+                       @Value("${jobs.geo.cell-degrees:0.5}") double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 90) {
+            throw new IllegalArgumentException("jobs.geo.cell-degrees must be in (0, 90]");
+        }
+        this.gazetteer = gazetteer;
+        this.cellDegrees = cellDegrees;
+        this.lonCells = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    @Override
+    public void upsert(Collection<Job> jobs) {
+        lock.writeLock().lock();
+        try {
+            for (Job job : jobs) {
+                unlink(job.getId());
+                Place place = gazetteer.get(job.getLocationKey());
+                if (place != null) {
+                    link(job.getId(), place);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Collection<String> ids) {
+        lock.writeLock().lock();
+        try {
+            ids.forEach(this::unlink);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Keys of places with at least one job within radiusKm of the given point
+    public Set<String> placesWithin(double lat, double lon, double radiusKm) {
+        double latSpan = radiusKm / KM_PER_DEGREE_LAT;
+        // Longitude degrees shrink towards the poles; past ~89° just scan the whole band
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double lonSpan = cosLat < 0.02 ? 180 : Math.min(180, radiusKm / (KM_PER_DEGREE_LAT * cosLat));
+
+        int fromRow = row(Math.max(-90, lat - latSpan));
+        int toRow = row(Math.min(90, lat + latSpan));
+        int fromCol = (int) Math.floor((lon - lonSpan + 180) / cellDegrees);
+        int toCol = (int) Math.floor((lon + lonSpan + 180) / cellDegrees);
+        if (toCol - fromCol >= lonCells) {
+            fromCol = 0;
+            toCol = lonCells - 1;
+        }
+
+        Set<String> found = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            for (int r = fromRow; r <= toRow; r++) {
+                for (int c = fromCol; c <= toCol; c++) {
+                    // Wraps across the antimeridian
+                    List<Place> places = cells.get(cellKey(r, Math.floorMod(c, lonCells)));
+                    if (places == null) {
+                        continue;
+                    }
+                    for (Place place : places) {
+                        if (place.distanceKm(lat, lon) <= radiusKm) {
+                            found.add(place.getKey());
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    // Ids of jobs located at any of the given places
+    public Set<String> jobsAt(Collection<String> placeKeys) {
+        Set<String> ids = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            for (String key : placeKeys) {
+                ids.addAll(jobsByPlace.getOrDefault(key, Set.of()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    private void link(String jobId, Place place) {
+        placeByJob.put(jobId, place.getKey());
+        Set<String> ids = jobsByPlace.computeIfAbsent(place.getKey(), k -> new HashSet<>());
+        if (ids.isEmpty()) {
+            cells.computeIfAbsent(cellOf(place), k -> new ArrayList<>()).add(place);
+        }
+        ids.add(jobId);
+    }
+
+    private void unlink(String jobId) {
+        String key = placeByJob.remove(jobId);
+        if (key == null) {
+            return;
+        }
+        Set<String> ids = jobsByPlace.get(key);
+        ids.remove(jobId);
+        if (ids.isEmpty()) {
+            jobsByPlace.remove(key);
+            Place place = gazetteer.get(key);
+            long cell = cellOf(place);
+            List<Place> places = cells.get(cell);
+            places.remove(place);
+            if (places.isEmpty()) {
+                cells.remove(cell);
+            }
+        }
+    }
+
+    private long cellOf(Place place) {
+        return cellKey(row(place.getLat()), Math.floorMod((int) Math.floor((place.getLon() + 180) / cellDegrees), lonCells));
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor((lat + 90) / cellDegrees);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,33 @@
+package com.job.demo.job.geo;
+
+// One gazetteer entry: a canonical city with its coordinates
+public class Place {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final String key;
+    private final String name;
+    private final double lat;
+    private final double lon;
+
+    public Place(String key, String name, double lat, double lon) {
+        this.key = key;
+        this.name = name;
+        this.lat = lat;
+        this.lon = lon;
+    }
+
+    public String getKey() { return key; }
+    public String getName() { return name; }
+    public double getLat() { return lat; }
+    public double getLon() { return lon; }
+
+    // Great-circle (haversine) distance
+    public double distanceKm(double otherLat, double otherLon) {
+        double dLat = Math.toRadians(otherLat - lat);
+        double dLon = Math.toRadians(otherLon - lon);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat)) * Math.cos(Math.toRadians(otherLat)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,76 @@
+package com.job.demo.job.index;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.job.demo.job.model.Job;
+
+/**
+ * SimHash of every catalog job in LSH buckets, so a sync can tell that an
+ * incoming posting under a new id is a near-copy of one already stored.
+ * Only postings in the same {@link SimHash#scope} are compared.
+ */
+@Component
+public class JobDuplicateIndex implements JobIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxDistance;
+    private final SimHashLsh lsh;
+
+    public JobDuplicateIndex(@Value("${jobs.dedup.max-distance:3}") int maxDistance) {
+        this.maxDistance = maxDistance;
+        this.lsh = new SimHashLsh(maxDistance);
+    }
+
+    @Override
+    public void upsert(Collection<Job> jobs) {
+        long[] hashes = jobs.stream().mapToLong(SimHash::of).toArray();
+        String[] scopes = jobs.stream().map(SimHash::scope).toArray(String[]::new);
+        lock.writeLock().lock();
+        try {
+            int i = 0;
+            for (Job job : jobs) {
+                lsh.put(job.getId(), scopes[i], hashes[i]);
+                i++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Collection<String> ids) {
+        lock.writeLock().lock();
+        try {
+            ids.forEach(lsh::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    public boolean contains(String id) {
+        lock.readLock().lock();
+        try {
+            return lsh.contains(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Id of the stored job in the scope closest to the hash, or null when none is within max-distance bits
+    public String nearest(String scope, long hash) {
+        lock.readLock().lock();
+        try {
+            return lsh.nearest(scope, hash);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
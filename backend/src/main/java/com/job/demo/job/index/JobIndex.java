@@ -0,0 +1,29 @@
+package com.job.demo.job.index;
+
+import java.time.ZoneId;
+import java.util.Collection;
+
+import com.job.demo.job.model.Job;
+
+/**
+ * An in-memory structure derived from the jobs table. JobIndexMaintainer
+ * feeds every implementation the full catalog at startup and the changed
+ * rows after each sync, so indexes never query MySQL themselves.
+ */
+public interface JobIndex {
+
+    void upsert(Collection<Job> jobs);
+
+    void remove(Collection<String> ids);
+
+    // Called once a batch of upserts/removals has been applied; rebuild derived snapshots here
+    default void refresh() {
+    }
+
+    // Expired rows stay indexed until the purger deletes them, so queries compare against this
+    static long expiresAtMillis(Job job) {
+        return job.getExpiresAt() != null
+                ? job.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,141 @@
+package com.job.demo.job.index;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.job.demo.config.BackgroundThreads;
+import com.job.demo.job.event.JobIndexesRefreshedEvent;
+import com.job.demo.job.event.JobsChangedEvent;
+import com.job.demo.job.model.Job;
+import com.job.demo.job.repository.JobRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps every JobIndex bean in step with the jobs table: one full pass in
+ * primary-key batches once the app is ready, then only the rows named in
+ * each JobsChangedEvent.
+ *
+ * Row changes are applied as they arrive, but snapshot rebuilds are not:
+ * a sync publishes one event per chunk, so refresh() and the
+ * JobIndexesRefreshedEvent run at most once per refresh-delay on a
+ * background thread, covering every change since the last one.
+ */
+@Component
+public class JobIndexMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(JobIndexMaintainer.class);
+
+    private final JobRepository jobRepository;
+    private final List<JobIndex> indexes;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final long refreshDelayMillis;
+    private final ScheduledExecutorService refresher;
+
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    // Job id -> removed?, the last change to an id wins
+    private final Map<String, Boolean> pending = new LinkedHashMap<>();
+
+    public JobIndexMaintainer(JobRepository jobRepository,
+                              List<JobIndex> indexes,
+                              ApplicationEventPublisher eventPublisher,
+                              BackgroundThreads backgroundThreads,
+                              @Value("${jobs.index.load-batch-size:1000}") int batchSize,
+                              @Value("${jobs.index.refresh-delay:PT1S}") Duration refreshDelay) {
+        this.jobRepository = jobRepository;
+        this.indexes = indexes;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.refreshDelayMillis = refreshDelay.toMillis();
+        this.refresher = Executors.newSingleThreadScheduledExecutor(backgroundThreads.factory("job-index-refresh"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long started = System.currentTimeMillis();
+        int loaded = 0;
+        String lastId = "";
+        while (true) {
+            List<Job> batch = jobRepository.findBatchAfterId(lastId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            indexes.forEach(index -> index.upsert(batch));
+            loaded += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        indexes.forEach(JobIndex::refresh);
+        log.info("Loaded {} jobs into {} indexes in {} ms", loaded, indexes.size(), System.currentTimeMillis() - started);
+    }
+
+    @EventListener
+    public void onJobsChanged(JobsChangedEvent event) {
+        List<String> upserted = new ArrayList<>(event.getUpsertedIds());
+        for (int from = 0; from < upserted.size(); from += batchSize) {
+            List<Job> batch = jobRepository.findAllById(upserted.subList(from, Math.min(from + batchSize, upserted.size())));
+            indexes.forEach(index -> index.upsert(batch));
+        }
+        if (!event.getRemovedIds().isEmpty()) {
+            indexes.forEach(index -> index.remove(event.getRemovedIds()));
+        }
+        synchronized (pending) {
+            upserted.forEach(id -> pending.put(id, false));
+            event.getRemovedIds().forEach(id -> pending.put(id, true));
+        }
+        scheduleRefresh();
+    }
+
+    private void scheduleRefresh() {
+        if (!refreshScheduled.compareAndSet(false, true)) {
+            return; // the queued refresh will pick these changes up
+        }
+        try {
+            refresher.schedule(this::refresh, refreshDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            refreshScheduled.set(false); // shutting down; nobody is left to read the snapshot
+        }
+    }
+
+    private void refresh() {
+        // Cleared before taking the changes, so anything arriving from here on schedules another pass
+        refreshScheduled.set(false);
+        List<String> upserted = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        synchronized (pending) {
+            pending.forEach((id, isRemoved) -> (isRemoved ? removed : upserted).add(id));
+            pending.clear();
+        }
+        if (upserted.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        try {
+            indexes.forEach(JobIndex::refresh);
+            eventPublisher.publishEvent(new JobIndexesRefreshedEvent(upserted, removed));
+        } catch (RuntimeException e) {
+            log.error("Index refresh after {} changed jobs failed", upserted.size() + removed.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,350 @@
+package com.job.demo.job.index;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Component;
+
+import com.job.demo.job.dto.JobCardResponse;
+import com.job.demo.job.dto.RankCursor;
+import com.job.demo.job.model.Job;
+import com.job.demo.job.model.JobDescription;
+
+/**
+ * Scores the catalog against a MatchProfile. Skill and role terms are
+ * looked up in an inverted index (term -> job ordinals) so only matching
+ * jobs are touched for the text part; profile preferences are then applied
+ * in one pass and a bounded heap keeps the best K.
+ *
+ * Queries run against an immutable snapshot that refresh() swaps in after
+ * each batch of changes, so a request never waits on a rebuild. Recency is
+ * measured from a fixed epoch rather than from now: a rebuild alone does
+ * not shift any score, so rank cursors handed out earlier still hold.
+ */
+@Component
+public class JobMatchIndex implements JobIndex {
+
+    private static final float SKILL_WEIGHT = 2.0f;
+    private static final float ROLE_WEIGHT = 1.5f;
+    private static final float LOCATION_BOOST = 1.0f;
+    private static final float REMOTE_MISMATCH_PENALTY = 5.0f;
+    private static final float SALARY_PENALTY = 2.0f;
+    private static final float SENIORITY_PENALTY = 0.5f;
+    private static final float RECENCY_WEIGHT = 0.5f;
+    private static final double RECENCY_PERIOD_SECONDS = 30 * 86_400.0;
+    // Fixed origin for recency, so a job's base score never depends on when the snapshot was built
+    private static final long RECENCY_EPOCH_SECOND = 1_704_067_200L; // 2024-01-01T00:00:00Z
+
+    private static final Set<String> SENIOR_TERMS = Set.of("senior", "sr", "lead", "principal", "staff", "architect");
+    private static final Set<String> ENTRY_TERMS = Set.of("intern", "internship", "junior", "jr", "trainee", "fresher");
+
+    // Best first: higher score, then smaller id so ties have a stable order
+    private static final Comparator<RankedJob> BEST_FIRST = Comparator
+            .comparingDouble((RankedJob r) -> -r.score)
+            .thenComparing(r -> r.card.getId());
+
+    private final Map<String, MatchDoc> docs = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+
+    @Override
+    public void upsert(Collection<Job> jobs) {
+        for (Job job : jobs) {
+            docs.put(job.getId(), MatchDoc.from(job));
+        }
+    }
+
+    @Override
+    public void remove(Collection<String> ids) {
+        for (String id : ids) {
+            docs.remove(id);
+        }
+    }
+
+    @Override
+    public synchronized void refresh() {
+        snapshot = new Snapshot(docs.values());
+    }
+
+    public int size() {
+        return snapshot.docs.length;
+    }
+
+    // Top k jobs ranked strictly after the cursor (or from the top when it is null)
+    public List<RankedJob> topK(MatchProfile profile, int k, RankCursor after) {
+        return topK(profile, k, after, id -> false);
+    }
+
+    // As above, leaving out jobs the caller has hidden (e.g. already swiped)
+    public List<RankedJob> topK(MatchProfile profile, int k, RankCursor after, Predicate<String> hidden) {
+        Snapshot current = snapshot;
+        float[] scores = current.baseScores.clone();
+        addTermScores(current, profile.getSkillTerms(), SKILL_WEIGHT, scores);
+        addTermScores(current, profile.getRoleTerms(), ROLE_WEIGHT, scores);
+
+        PriorityQueue<RankedJob> heap = new PriorityQueue<>(k + 1, BEST_FIRST.reversed());
+        long now = System.currentTimeMillis();
+        for (int ord = 0; ord < current.docs.length; ord++) {
+            MatchDoc doc = current.docs[ord];
+            if (doc.expiresAtMillis <= now) {
+                continue;
+            }
+            float score = scores[ord] + preferenceScore(doc, profile);
+            if (after != null && !isAfter(score, doc.id, after)) {
+                continue;
+            }
+            // Cheap rejection before allocating: the heap head is the worst job kept so far
+            if (heap.size() == k && !beats(score, doc.id, heap.peek())) {
+                continue;
+            }
+            if (hidden.test(doc.id)) {
+                continue;
+            }
+            heap.add(new RankedJob(doc.card, score));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        List<RankedJob> ranked = new ArrayList<>(heap);
+        ranked.sort(BEST_FIRST);
+        return ranked;
+    }
+
+    // Scores just the given jobs, best first; ids not in the current snapshot or expired are skipped.
+    // Gives the same scores as topK, so results can be merged into a ranked list.
+    public List<RankedJob> score(MatchProfile profile, Collection<String> ids) {
+        Snapshot current = snapshot;
+        List<RankedJob> ranked = new ArrayList<>(ids.size());
+        long now = System.currentTimeMillis();
+        for (String id : ids) {
+            Integer ord = current.ordinals.get(id);
+            if (ord == null || current.docs[ord].expiresAtMillis <= now) {
+                continue;
+            }
+            // Same summation order as topK, so the float results match exactly
+            MatchDoc doc = current.docs[ord];
+            List<String> docTerms = Arrays.asList(doc.terms);
+            float score = current.baseScores[ord];
+            for (String term : profile.getSkillTerms()) {
+                if (docTerms.contains(term)) {
+                    score += SKILL_WEIGHT * idf(current, term);
+                }
+            }
+            for (String term : profile.getRoleTerms()) {
+                if (docTerms.contains(term)) {
+                    score += ROLE_WEIGHT * idf(current, term);
+                }
+            }
+            score += preferenceScore(doc, profile);
+            ranked.add(new RankedJob(doc.card, score));
+        }
+        ranked.sort(BEST_FIRST);
+        return ranked;
+    }
+
+    // Card for a job in the current snapshot, or null once it has been removed or has expired
+    public JobCardResponse getCard(String id) {
+        Snapshot current = snapshot;
+        Integer ord = current.ordinals.get(id);
+        if (ord == null || current.docs[ord].expiresAtMillis <= System.currentTimeMillis()) {
+            return null;
+        }
+        return current.docs[ord].card;
+    }
+
+    private static void addTermScores(Snapshot current, Set<String> terms, float weight, float[] scores) {
+        for (String term : terms) {
+            int[] postings = current.postings.get(term);
+            if (postings == null) {
+                continue;
+            }
+            float boost = weight * idf(current, term);
+            for (int ord : postings) {
+                scores[ord] += boost;
+            }
+        }
+    }
+
+    // Rare terms say more about a match than ubiquitous ones
+    private static float idf(Snapshot current, String term) {
+        int[] postings = current.postings.get(term);
+        return postings == null ? 0f : (float) Math.log(1.0 + (double) current.docs.length / postings.length);
+    }
+
+    private static float preferenceScore(MatchDoc doc, MatchProfile profile) {
+        float score = 0f;
+        if (profile.isRemoteOnly() && !doc.remote) {
+            score -= REMOTE_MISMATCH_PENALTY;
+        }
+        if (doc.matchesLocation(profile)) {
+            score += LOCATION_BOOST;
+        }
+        if (profile.getMinSalary() > 0 && doc.annualSalary > 0 && doc.annualSalary < profile.getMinSalary()) {
+            score -= SALARY_PENALTY;
+        }
+        if (doc.senior && profile.getExperienceYears() < 3 && !profile.getSkillTerms().isEmpty()) {
+            score -= SENIORITY_PENALTY;
+        }
+        if (doc.entryLevel && profile.getExperienceYears() >= 5) {
+            score -= SENIORITY_PENALTY;
+        }
+        return score;
+    }
+
+    private static boolean isAfter(float score, String id, RankCursor cursor) {
+        return score < cursor.getScore() || (score == cursor.getScore() && id.compareTo(cursor.getId()) > 0);
+    }
+
+    private static boolean beats(float score, String id, RankedJob worst) {
+        return score > worst.score || (score == worst.score && id.compareTo(worst.card.getId()) < 0);
+    }
+
+    public static final class RankedJob {
+
+        private final JobCardResponse card;
+        private final float score;
+
+        RankedJob(JobCardResponse card, float score) {
+            this.card = card;
+            this.score = score;
+        }
+
+        public JobCardResponse getCard() {
+            return card;
+        }
+
+        public float getScore() {
+            return score;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final MatchDoc[] docs;
+        private final Map<String, Integer> ordinals;
+        private final Map<String, int[]> postings;
+        // Profile-independent part of the score; each job's value is fixed when it is indexed
+        private final float[] baseScores;
+
+        Snapshot(Collection<MatchDoc> source) {
+            this.docs = source.toArray(new MatchDoc[0]);
+            this.baseScores = new float[docs.length];
+            this.ordinals = new HashMap<>(docs.length * 2);
+
+            Map<String, List<Integer>> building = new HashMap<>();
+            for (int ord = 0; ord < docs.length; ord++) {
+                ordinals.put(docs[ord].id, ord);
+                for (String term : docs[ord].terms) {
+                    building.computeIfAbsent(term, t -> new ArrayList<>()).add(ord);
+                }
+                baseScores[ord] = docs[ord].recency;
+            }
+
+            this.postings = new HashMap<>(building.size() * 2);
+            for (Map.Entry<String, List<Integer>> entry : building.entrySet()) {
+                postings.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+    }
+
+    // Compact per-job features; the card is kept so ranked results are served without a DB read
+    private static final class MatchDoc {
+
+        private final String id;
+        private final JobCardResponse card;
+        private final String[] terms;
+        private final String[] locationTerms;
+        private final String locationKey;
+        private final float recency;
+        private final long expiresAtMillis;
+        private final boolean remote;
+        private final long annualSalary;
+        private final boolean senior;
+        private final boolean entryLevel;
+
+        private MatchDoc(Job job, String[] terms, String[] locationTerms, boolean remote,
+                         boolean senior, boolean entryLevel) {
+            this.id = job.getId();
+            this.card = JobCardResponse.from(job);
+            this.terms = terms;
+            this.locationTerms = locationTerms;
+            this.locationKey = job.getLocationKey();
+            this.recency = recency(job);
+            this.expiresAtMillis = JobIndex.expiresAtMillis(job);
+            this.remote = remote;
+            this.annualSalary = job.getSalaryAnnual() != null ? job.getSalaryAnnual() : 0L;
+            this.senior = senior;
+            this.entryLevel = entryLevel;
+        }
+
+        // Linear in creation time, RECENCY_WEIGHT per 30 days past the epoch, so the gap between
+        // two jobs is the same whenever it is computed. Jobs with no creation time sit at the floor.
+        private static float recency(Job job) {
+            if (job.getCreatedAt() == null) {
+                return 0f;
+            }
+            long createdAt = job.getCreatedAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+            return RECENCY_WEIGHT * (float) (Math.max(0, createdAt - RECENCY_EPOCH_SECOND) / RECENCY_PERIOD_SECONDS);
+        }
+
+        static MatchDoc from(Job job) {
+            Set<String> terms = new LinkedHashSet<>(JobTextAnalyzer.tokenize(job.getTitle()));
+            Set<String> titleTerms = Set.copyOf(terms);
+            terms.addAll(JobTextAnalyzer.tokenize(job.getJobType()));
+            addAll(terms, job.getQualifications());
+            JobDescription description = job.getFullDescription();
+            if (description != null) {
+                terms.addAll(JobTextAnalyzer.tokenize(description.getCategory()));
+                addAll(terms, description.getRequirements());
+                addAll(terms, description.getDescription());
+            }
+
+            // Rows synced before the remote column existed fall back to the same text rule
+            String workMode = description != null ? description.getWorkMode() : null;
+            boolean remote = job.getRemote() != null
+                    ? job.getRemote()
+                    : JobTextAnalyzer.mentionsRemote(job.getLocation(), job.getJobType(), workMode);
+
+            return new MatchDoc(job,
+                    terms.toArray(new String[0]),
+                    JobTextAnalyzer.tokenize(job.getLocation()).toArray(new String[0]),
+                    remote,
+                    titleTerms.stream().anyMatch(SENIOR_TERMS::contains),
+                    titleTerms.stream().anyMatch(ENTRY_TERMS::contains));
+        }
+
+        // Canonical places when both sides resolved to one ("Bangalore" vs "Bengaluru, KA"),
+        // otherwise any shared location word
+        boolean matchesLocation(MatchProfile profile) {
+            if (profile.getLocationKey() != null && locationKey != null) {
+                return profile.getLocationKey().equals(locationKey);
+            }
+            Set<String> wanted = profile.getLocationTerms();
+            for (String term : locationTerms) {
+                if (wanted.contains(term)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static void addAll(Set<String> terms, List<String> lines) {
+            if (lines != null) {
+                for (String line : lines) {
+                    terms.addAll(JobTextAnalyzer.tokenize(line));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.job.demo.job.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import com.job.demo.job.dto.JobCardResponse;
+import com.job.demo.job.model.Job;
+import com.job.demo.job.model.JobDescription;
+
+/**
+ * Embedded full-text index over title, company, location and description
+ * text, scored with BM25. Terms live in a sorted map so a trailing partial
+ * word ("reac") expands to every indexed term with that prefix.
+ *
+ * Updates are incremental: a changed job gets a fresh ordinal and its old
+ * one is tombstoned; postings are compacted once tombstones pile up.
+ */
+@Component
+public class JobSearchIndex implements JobIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int COMPANY_WEIGHT = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final float PREFIX_MATCH_FACTOR = 0.8f;
+    private static final int COMPACT_MIN_DEAD = 1_000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final List<SearchDoc> docs = new ArrayList<>();
+    private final Map<String, Integer> ordinalById = new HashMap<>();
+    private long totalLength;
+    private int deadCount;
+
+    @Override
+    public void upsert(Collection<Job> jobs) {
+        List<SearchDoc> analyzed = jobs.stream().map(SearchDoc::from).toList();
+        lock.writeLock().lock();
+        try {
+            for (SearchDoc doc : analyzed) {
+                Integer previous = ordinalById.remove(doc.card.getId());
+                if (previous != null) {
+                    kill(previous);
+                }
+                add(doc);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Collection<String> ids) {
+        lock.writeLock().lock();
+        try {
+            for (String id : ids) {
+                Integer ordinal = ordinalById.remove(id);
+                if (ordinal != null) {
+                    kill(ordinal);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SearchResult search(String query, int limit) {
+        List<String> tokens = JobTextAnalyzer.tokenize(query);
+        if (tokens.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+        // The last word is still being typed unless the query ends in a separator
+        boolean lastIsPrefix = !Character.isWhitespace(query.charAt(query.length() - 1));
+
+        lock.readLock().lock();
+        try {
+            int liveDocs = ordinalById.size();
+            if (liveDocs == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+            float avgLength = (float) totalLength / liveDocs;
+            Map<Integer, Float> scores = new HashMap<>();
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < tokens.size(); i++) {
+                boolean prefix = lastIsPrefix && i == tokens.size() - 1;
+                scoreToken(tokens.get(i), prefix, liveDocs, avgLength, now, scores);
+            }
+            return new SearchResult(topK(scores, limit), scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void scoreToken(String token, boolean prefix, int liveDocs, float avgLength, long now,
+                            Map<Integer, Float> scores) {
+        // Per-document best over the token's expansions, so one prefix cannot count several times
+        Map<Integer, Float> best = new HashMap<>();
+        NavigableMap<String, Postings> candidates = prefix
+                ? postings.subMap(token, true, token + Character.MAX_VALUE, true)
+                : postings.subMap(token, true, token, true);
+        int expanded = 0;
+        for (Map.Entry<String, Postings> entry : candidates.entrySet()) {
+            if (expanded++ == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            Postings list = entry.getValue();
+            if (list.liveDf == 0) {
+                continue;
+            }
+            float idf = (float) Math.log(1.0 + (liveDocs - list.liveDf + 0.5) / (list.liveDf + 0.5));
+            float factor = entry.getKey().equals(token) ? 1f : PREFIX_MATCH_FACTOR;
+            for (int i = 0; i < list.size; i++) {
+                SearchDoc doc = docs.get(list.ordinals[i]);
+                // Expired jobs keep counting towards idf until purged, but never match
+                if (doc == null || doc.expiresAtMillis <= now) {
+                    continue;
+                }
+                int tf = list.frequencies[i];
+                float norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * doc.length / avgLength));
+                best.merge(list.ordinals[i], factor * idf * norm, Math::max);
+            }
+        }
+        best.forEach((ordinal, score) -> scores.merge(ordinal, score, Float::sum));
+    }
+
+    private List<ScoredCard> topK(Map<Integer, Float> scores, int limit) {
+        Comparator<ScoredCard> bestFirst = Comparator.comparingDouble((ScoredCard s) -> -s.score)
+                .thenComparing(s -> s.card.getId());
+        PriorityQueue<ScoredCard> heap = new PriorityQueue<>(limit + 1, bestFirst.reversed());
+        scores.forEach((ordinal, score) -> {
+            heap.add(new ScoredCard(docs.get(ordinal).card, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        List<ScoredCard> ranked = new ArrayList<>(heap);
+        ranked.sort(bestFirst);
+        return ranked;
+    }
+
+    private void add(SearchDoc doc) {
+        int ordinal = docs.size();
+        docs.add(doc);
+        ordinalById.put(doc.card.getId(), ordinal);
+        totalLength += doc.length;
+        for (int i = 0; i < doc.terms.length; i++) {
+            Postings list = postings.computeIfAbsent(doc.terms[i], t -> new Postings());
+            list.append(ordinal, doc.frequencies[i]);
+            list.liveDf++;
+        }
+    }
+
+    private void kill(int ordinal) {
+        SearchDoc doc = docs.set(ordinal, null);
+        totalLength -= doc.length;
+        for (String term : doc.terms) {
+            postings.get(term).liveDf--;
+        }
+        deadCount++;
+    }
+
+    // Renumbers live documents densely and rebuilds postings without tombstones
+    private void compactIfNeeded() {
+        if (deadCount < COMPACT_MIN_DEAD || deadCount < ordinalById.size() / 4) {
+            return;
+        }
+        List<SearchDoc> live = docs.stream().filter(d -> d != null).toList();
+        docs.clear();
+        postings.clear();
+        ordinalById.clear();
+        totalLength = 0;
+        deadCount = 0;
+        live.forEach(this::add);
+    }
+
+    public static final class SearchResult {
+
+        private final List<ScoredCard> hits;
+        private final int totalMatches;
+
+        SearchResult(List<ScoredCard> hits, int totalMatches) {
+            this.hits = hits;
+            this.totalMatches = totalMatches;
+        }
+
+        public List<ScoredCard> getHits() {
+            return hits;
+        }
+
+        public int getTotalMatches() {
+            return totalMatches;
+        }
+    }
+
+    public static final class ScoredCard {
+
+        private final JobCardResponse card;
+        private final float score;
+
+        ScoredCard(JobCardResponse card, float score) {
+            this.card = card;
+            this.score = score;
+        }
+
+        public JobCardResponse getCard() {
+            return card;
+        }
+
+        public float getScore() {
+            return score;
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        private int liveDf;
+
+        void append(int ordinal, int frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+
+    // Distinct terms with field-weighted frequencies; title and company hits count extra
+    private static final class SearchDoc {
+
+        private final JobCardResponse card;
+        private final String[] terms;
+        private final int[] frequencies;
+        private final int length;
+        private final long expiresAtMillis;
+
+        private SearchDoc(JobCardResponse card, String[] terms, int[] frequencies, int length, long expiresAtMillis) {
+            this.card = card;
+            this.terms = terms;
+            this.frequencies = frequencies;
+            this.length = length;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        static SearchDoc from(Job job) {
+            Map<String, Integer> counts = new HashMap<>();
+            int length = 0;
+            length += count(counts, job.getTitle(), TITLE_WEIGHT);
+            length += count(counts, job.getCompany(), COMPANY_WEIGHT);
+            length += count(counts, job.getLocation(), 1);
+            JobDescription description = job.getFullDescription();
+            if (description != null) {
+                length += count(counts, description.getCategory(), 1);
+                length += countAll(counts, description.getDescription());
+                length += countAll(counts, description.getRequirements());
+            }
+
+            String[] terms = new String[counts.size()];
+            int[] frequencies = new int[counts.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                terms[i] = entry.getKey();
+                frequencies[i] = entry.getValue();
+                i++;
+            }
+            return new SearchDoc(JobCardResponse.from(job), terms, frequencies, length, JobIndex.expiresAtMillis(job));
+        }
+
+        private static int countAll(Map<String, Integer> counts, List<String> lines) {
+            int length = 0;
+            if (lines != null) {
+                for (String line : lines) {
+                    length += count(counts, line, 1);
+                }
+            }
+            return length;
+        }
+
+        private static int count(Map<String, Integer> counts, String text, int weight) {
+            List<String> tokens = JobTextAnalyzer.tokenize(text);
+            for (String token : tokens) {
+                counts.merge(token, weight, Integer::sum);
+            }
+            return tokens.size() * weight;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.job.demo.job.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Shared tokenizer for the job indexes: lower-cased terms that keep tech names like c++, c# and node.js intact
+public final class JobTextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "in", "is", "of",
+            "on", "or", "our", "the", "to", "we", "will", "with", "you", "your");
+
+    private JobTextAnalyzer() {}
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                current.append(c);
+            } else if (c == '.' && current.length() > 0) {
+                current.append(c);
+            } else {
+                flush(current, tokens);
+            }
+        }
+        flush(current, tokens);
+        return tokens;
+    }
+
+    // Remote postings are recognised by any of their free-text fields saying so
+    public static boolean mentionsRemote(String... values) {
+        for (String value : values) {
+            if (value != null && value.toLowerCase(Locale.ROOT).contains("remote")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void flush(StringBuilder current, List<String> tokens) {
+        // A trailing dot is sentence punctuation, not part of the term
+        int end = current.length();
+        while (end > 0 && current.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (end > 0) {
+            String token = current.substring(0, end);
+            if (!STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        current.setLength(0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.job.demo.job.index;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The parts of a UserProfile the ranking uses, already tokenized. An empty
+ * profile (anonymous caller) ranks purely by recency.
+ */
+public class MatchProfile {
+
+    public static final MatchProfile ANONYMOUS = new MatchProfile(Set.of(), Set.of(), false, Set.of(), 0, 0);
+
+    private final Set<String> skillTerms;
+    private final Set<String> roleTerms;
+    private final boolean remoteOnly;
+    private final Set<String> locationTerms;
+    // Gazetteer key of the preferred location, when it names a known city
+    private final String locationKey;
+    private final int minSalary;
+    private final int experienceYears;
+
+    public MatchProfile(Set<String> skillTerms, Set<String> roleTerms, boolean remoteOnly,
+                        Set<String> locationTerms, int minSalary, int experienceYears) {
+        this(skillTerms, roleTerms, remoteOnly, locationTerms, null, minSalary, experienceYears);
+    }
+
+    public MatchProfile(Set<String> skillTerms, Set<String> roleTerms, boolean remoteOnly,
+                        Set<String> locationTerms, String locationKey, int minSalary, int experienceYears) {
+        this.skillTerms = skillTerms;
+        this.roleTerms = roleTerms;
+        this.remoteOnly = remoteOnly;
+        this.locationTerms = locationTerms;
+        this.locationKey = locationKey;
+        this.minSalary = minSalary;
+        this.experienceYears = experienceYears;
+    }
+
+    public static MatchProfile of(Iterable<String> skills, String targetRole, boolean remoteOnly,
+                                  String preferredLocation, int minSalary, int experienceYears) {
+        Set<String> skillTerms = new LinkedHashSet<>();
+        for (String skill : skills) {
+            skillTerms.addAll(JobTextAnalyzer.tokenize(skill));
+        }
+        return new MatchProfile(skillTerms, terms(targetRole), remoteOnly, terms(preferredLocation),
+                minSalary, experienceYears);
+    }
+
+    public MatchProfile withLocationKey(String key) {
+        return new MatchProfile(skillTerms, roleTerms, remoteOnly, locationTerms, key, minSalary, experienceYears);
+    }
+
+    private static Set<String> terms(String text) {
+        List<String> tokens = JobTextAnalyzer.tokenize(text);
+        return new LinkedHashSet<>(tokens);
+    }
+
+    public Set<String> getSkillTerms() { return skillTerms; }
+    public Set<String> getRoleTerms() { return roleTerms; }
+    public boolean isRemoteOnly() { return remoteOnly; }
+    public Set<String> getLocationTerms() { return locationTerms; }
+    public String getLocationKey() { return locationKey; }
+    public int getMinSalary() { return minSalary; }
+    public int getExperienceYears() { return experienceYears; }
+}
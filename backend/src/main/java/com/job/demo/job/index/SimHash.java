@@ -0,0 +1,102 @@
+package com.job.demo.job.index;
+
+import java.util.List;
+
+import com.job.demo.job.model.Job;
+import com.job.demo.job.model.JobDescription;
+
+/**
+ * 64-bit SimHash of a posting's title, company, location and description.
+ * Near-identical postings (a repost, an aggregator's copy with its own
+ * boilerplate) differ in only a few bits, so Hamming distance stands in
+ * for text similarity. Header terms are weighted above description
+ * shingles, and description text is hashed as overlapping word triples so
+ * reordered paragraphs still look alike. Title and company outweigh a short
+ * location, so the same role at one company hashes alike in every city;
+ * hashes are only compared within a {@link #scope}, which pins both exactly.
+ */
+public final class SimHash {
+
+    private static final int TITLE_WEIGHT = 4;
+    private static final int COMPANY_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 1;
+    private static final int SHINGLE_SIZE = 3;
+
+    private SimHash() {}
+
+    public static long of(Job job) {
+        int[] votes = new int[64];
+        addTerms(votes, job.getTitle(), TITLE_WEIGHT);
+        addTerms(votes, job.getCompany(), COMPANY_WEIGHT);
+        addTerms(votes, job.getLocation(), LOCATION_WEIGHT);
+        JobDescription description = job.getFullDescription();
+        if (description != null) {
+            addShingles(votes, description.getDescription());
+            addShingles(votes, description.getRequirements());
+        }
+        long hash = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) {
+                hash |= 1L << bit;
+            }
+        }
+        return hash;
+    }
+
+    // Company plus place (the gazetteer key, else the raw location's terms);
+    // two postings are only ever copies of each other within one scope
+    public static String scope(Job job) {
+        String company = String.join(" ", JobTextAnalyzer.tokenize(job.getCompany()));
+        String place = job.getLocationKey() != null
+                ? job.getLocationKey()
+                : String.join(" ", JobTextAnalyzer.tokenize(job.getLocation()));
+        return company + '|' + place;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static void addTerms(int[] votes, String text, int weight) {
+        for (String token : JobTextAnalyzer.tokenize(text)) {
+            vote(votes, hash64(token), weight);
+        }
+    }
+
+    private static void addShingles(int[] votes, List<String> lines) {
+        if (lines == null) {
+            return;
+        }
+        for (String line : lines) {
+            List<String> tokens = JobTextAnalyzer.tokenize(line);
+            if (tokens.size() < SHINGLE_SIZE) {
+                tokens.forEach(token -> vote(votes, hash64(token), 1));
+                continue;
+            }
+            for (int i = 0; i + SHINGLE_SIZE <= tokens.size(); i++) {
+                vote(votes, hash64(String.join(" ", tokens.subList(i, i + SHINGLE_SIZE))), 1);
+            }
+        }
+    }
+
+    private static void vote(int[] votes, long featureHash, int weight) {
+        for (int bit = 0; bit < 64; bit++) {
+            votes[bit] += ((featureHash >>> bit) & 1) != 0 ? weight : -weight;
+        }
+    }
+
+    // FNV-1a followed by a murmur finalizer; String.hashCode has too few bits to spread over 64
+    private static long hash64(String feature) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < feature.length(); i++) {
+            hash ^= feature.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,115 @@
+package com.job.demo.job.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Locality-sensitive buckets over SimHash values. The 64 bits are cut into
+ * maxDistance + 1 bands; two hashes within maxDistance bits of each other
+ * must agree on at least one whole band, so looking up a hash only compares
+ * it against the ids sharing one of its bands instead of the whole catalog.
+ * Every id also belongs to a scope with buckets of its own, so hashes in
+ * different scopes never match however close they are.
+ * Not thread-safe.
+ */
+public final class SimHashLsh {
+
+    private final int maxDistance;
+    private final int bands;
+    private final Map<String, Long> hashById = new HashMap<>();
+    private final Map<String, String> scopeById = new HashMap<>();
+    private final Map<String, List<Map<Long, Set<String>>>> bucketsByScope = new HashMap<>();
+
+    public SimHashLsh(int maxDistance) {
+        if (maxDistance < 0 || maxDistance > 15) {
+            throw new IllegalArgumentException("maxDistance must be between 0 and 15");
+        }
+        this.maxDistance = maxDistance;
+        this.bands = maxDistance + 1;
+    }
+
+    public boolean contains(String id) {
+        return hashById.containsKey(id);
+    }
+
+    public int size() {
+        return hashById.size();
+    }
+
+    public void put(String id, String scope, long hash) {
+        remove(id);
+        hashById.put(id, hash);
+        scopeById.put(id, scope);
+        List<Map<Long, Set<String>>> buckets = bucketsByScope.computeIfAbsent(scope, s -> newBands());
+        for (int band = 0; band < bands; band++) {
+            buckets.get(band).computeIfAbsent(bandKey(hash, band), k -> new HashSet<>()).add(id);
+        }
+    }
+
+    public void remove(String id) {
+        Long hash = hashById.remove(id);
+        if (hash == null) {
+            return;
+        }
+        String scope = scopeById.remove(id);
+        List<Map<Long, Set<String>>> buckets = bucketsByScope.get(scope);
+        boolean empty = true;
+        for (int band = 0; band < bands; band++) {
+            Map<Long, Set<String>> bandBuckets = buckets.get(band);
+            long key = bandKey(hash, band);
+            Set<String> ids = bandBuckets.get(key);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                bandBuckets.remove(key);
+            }
+            empty &= bandBuckets.isEmpty();
+        }
+        if (empty) {
+            bucketsByScope.remove(scope);
+        }
+    }
+
+    // The closest id in the scope within maxDistance bits (ties go to the smallest id), or null
+    public String nearest(String scope, long hash) {
+        List<Map<Long, Set<String>>> buckets = bucketsByScope.get(scope);
+        if (buckets == null) {
+            return null;
+        }
+        String best = null;
+        int bestDistance = maxDistance + 1;
+        for (int band = 0; band < bands; band++) {
+            Set<String> candidates = buckets.get(band).get(bandKey(hash, band));
+            if (candidates == null) {
+                continue;
+            }
+            for (String id : candidates) {
+                int distance = SimHash.distance(hash, hashById.get(id));
+                if (distance < bestDistance || (distance == bestDistance && best != null && id.compareTo(best) < 0)) {
+                    best = id;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best;
+    }
+
+    private List<Map<Long, Set<String>>> newBands() {
+        List<Map<Long, Set<String>>> buckets = new ArrayList<>(bands);
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+        return buckets;
+    }
+
+    // Bands are near-equal slices of the 64 bits; each band has its own bucket map
+    private long bandKey(long hash, int band) {
+        int from = band * 64 / bands;
+        int to = (band + 1) * 64 / bands;
+        long mask = to - from == 64 ? -1L : (1L << (to - from)) - 1;
+        return (hash >>> from) & mask;
+    }
+}
@@ -2,17 +2,35 @@ package com.job.demo.job.model;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "jobs") // ✅ Explicitly map to the new 'jobs' table
+@Table(name = "jobs", // ✅ Explicitly map to the new 'jobs' table
+        indexes = {
+                // Keyset order for the feed; expires_at rides along so expired rows are skipped inside the index
+                @Index(name = "idx_jobs_created_at_id_expires_at", columnList = "created_at, id, expires_at"),
+                // Purge scans
+                @Index(name = "idx_jobs_expires_at", columnList = "expires_at"),
+                // Filtered feed pages: equality column first, then the keyset order
+                @Index(name = "idx_jobs_remote_created_at_id", columnList = "remote, created_at, id"),
+                @Index(name = "idx_jobs_job_type_created_at_id", columnList = "job_type, created_at, id"),
+                @Index(name = "idx_jobs_salary_annual", columnList = "salary_annual"),
+                @Index(name = "idx_jobs_location_key_created_at_id", columnList = "location_key, created_at, id")
+        })
 public class Job {
 
     @Id
@@ -41,22 +59,47 @@ public class Job {
     @Column(name = "salary_unit")
     private String salaryUnit; // Maps to ENUM string value
 
+    // Derived at ingestion: yearly pay in the configured base currency (null when unknown)
+    @Column(name = "salary_annual")
+    private Long salaryAnnual;
+
+    // Derived at ingestion from location, job type and work mode
+    private Boolean remote;
+
+    // Derived at ingestion: gazetteer key of the city named in location (null when none matched)
+    @Column(name = "location_key", length = 64)
+    private String locationKey;
+
     @Column(name = "posted_ago", length = 50)
     private String postedAgo;
 
-    // JSON Fields - Mapped as String for simplicity
-    // Ensure your input JSON converts these objects to Strings before saving
-    @Column(columnDefinition = "LONGTEXT")
-    private String benefits;
+    // JSON Fields - native MySQL JSON columns mapped to typed values,
+    // so API responses carry real arrays/objects instead of JSON-in-a-string
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<String> benefits = new ArrayList<>();
 
-    @Column(columnDefinition = "LONGTEXT")
-    private String qualifications;
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<String> qualifications = new ArrayList<>();
 
-    @Column(name = "full_description", columnDefinition = "LONGTEXT")
-    private String fullDescription;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "full_description")
+    private JobDescription fullDescription = new JobDescription();
     @Column(name = "apply_url", length = 500)
     private String applyUrl;
 
+    // SHA-256 of the synced columns; lets ingestion skip rows whose content did not change
+    @JsonIgnore
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Absolute posting time, estimated from postedAgo when the source has nothing better
+    @Column(name = "posted_at")
+    private LocalDateTime postedAt;
+
+    // postedAt plus the source's TTL; the purger removes the row after this
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -157,27 +200,27 @@ public class Job {
         this.postedAgo = postedAgo;
     }
 
-    public String getBenefits() {
+    public List<String> getBenefits() {
         return benefits;
     }
 
-    public void setBenefits(String benefits) {
+    public void setBenefits(List<String> benefits) {
         this.benefits = benefits;
     }
 
-    public String getQualifications() {
+    public List<String> getQualifications() {
         return qualifications;
     }
 
-    public void setQualifications(String qualifications) {
+    public void setQualifications(List<String> qualifications) {
         this.qualifications = qualifications;
     }
 
-    public String getFullDescription() {
+    public JobDescription getFullDescription() {
         return fullDescription;
     }
 
-    public void setFullDescription(String fullDescription) {
+    public void setFullDescription(JobDescription fullDescription) {
         this.fullDescription = fullDescription;
     }
 
@@ -189,6 +232,54 @@ public class Job {
         this.applyUrl = applyUrl;
     }
 
+    public Long getSalaryAnnual() {
+        return salaryAnnual;
+    }
+
+    public void setSalaryAnnual(Long salaryAnnual) {
+        this.salaryAnnual = salaryAnnual;
+    }
+
+    public Boolean getRemote() {
+        return remote;
+    }
+
+    public void setRemote(Boolean remote) {
+        this.remote = remote;
+    }
+
+    public String getLocationKey() {
+        return locationKey;
+    }
+
+    public void setLocationKey(String locationKey) {
+        this.locationKey = locationKey;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public LocalDateTime getPostedAt() {
+        return postedAt;
+    }
+
+    public void setPostedAt(LocalDateTime postedAt) {
+        this.postedAt = postedAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
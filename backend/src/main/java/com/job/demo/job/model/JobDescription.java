@@ -0,0 +1,33 @@
+package com.job.demo.job.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// Structured form of jobs.full_description; field names match the frontend's JobFullDescription
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class JobDescription {
+
+    private String category;
+    private String stipend;
+    private String duration;
+    private String workMode;
+    private List<String> description = new ArrayList<>();
+    private List<String> requirements = new ArrayList<>();
+
+    public JobDescription() {}
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+    public String getStipend() { return stipend; }
+    public void setStipend(String stipend) { this.stipend = stipend; }
+    public String getDuration() { return duration; }
+    public void setDuration(String duration) { this.duration = duration; }
+    public String getWorkMode() { return workMode; }
+    public void setWorkMode(String workMode) { this.workMode = workMode; }
+    public List<String> getDescription() { return description; }
+    public void setDescription(List<String> description) { this.description = description; }
+    public List<String> getRequirements() { return requirements; }
+    public void setRequirements(List<String> requirements) { this.requirements = requirements; }
+}
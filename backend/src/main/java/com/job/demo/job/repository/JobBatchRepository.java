@@ -0,0 +1,159 @@
+package com.job.demo.job.repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.demo.job.model.Job;
+
+/**
+ * Set-based JDBC access to the jobs table for the sync path. Hibernate's
+ * save() on an assigned id does a SELECT before every write, so bulk
+ * ingestion goes through here instead.
+ */
+@Repository
+public class JobBatchRepository {
+
+    private static final String SELECT_CONTENT_HASHES =
+            "SELECT id, content_hash FROM jobs WHERE id IN (:ids)";
+
+    private static final String UPSERT =
+            "INSERT INTO jobs (id, title, company, location, apply_url, job_type, "
+            + "salary_amount, salary_currency, salary_unit, salary_annual, remote, location_key, "
+            + "benefits, qualifications, full_description, content_hash, posted_ago, posted_at, expires_at, "
+            + "created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "title = VALUES(title), company = VALUES(company), location = VALUES(location), "
+            + "apply_url = VALUES(apply_url), job_type = VALUES(job_type), "
+            + "salary_amount = VALUES(salary_amount), salary_currency = VALUES(salary_currency), "
+            + "salary_unit = VALUES(salary_unit), salary_annual = VALUES(salary_annual), remote = VALUES(remote), "
+            + "location_key = VALUES(location_key), benefits = VALUES(benefits), "
+            + "qualifications = VALUES(qualifications), full_description = VALUES(full_description), "
+            + "content_hash = VALUES(content_hash), posted_ago = VALUES(posted_ago), "
+            // A relisted job keeps its first posting estimate and expiry, so re-syncs cannot extend its life
+            + "posted_at = COALESCE(posted_at, VALUES(posted_at)), expires_at = COALESCE(expires_at, VALUES(expires_at)), "
+            + "updated_at = VALUES(updated_at)";
+
+    private static final String UPDATE_DERIVED =
+            "UPDATE jobs SET salary_annual = ?, remote = ?, location_key = ? WHERE id = ?";
+
+    // Oldest expiries first, straight off idx_jobs_expires_at
+    private static final String SELECT_EXPIRED_IDS =
+            "SELECT id FROM jobs WHERE expires_at <= :now ORDER BY expires_at LIMIT :limit";
+
+    private static final String ARCHIVE =
+            "REPLACE INTO jobs_archive (id, expires_at, archived_at, payload) "
+            + "SELECT id, expires_at, :now, JSON_OBJECT("
+            + "'title', title, 'company', company, 'location', location, 'applyUrl', apply_url, "
+            + "'jobType', job_type, 'salaryAmount', salary_amount, 'salaryCurrency', salary_currency, "
+            + "'salaryUnit', salary_unit, 'postedAgo', posted_ago, 'postedAt', posted_at, "
+            + "'benefits', benefits, 'qualifications', qualifications, 'fullDescription', full_description, "
+            + "'createdAt', created_at, 'updatedAt', updated_at) "
+            + "FROM jobs WHERE id IN (:ids)";
+
+    private static final String DELETE_BY_IDS = "DELETE FROM jobs WHERE id IN (:ids)";
+
+    // Rows from before expiry tracking count as posted when they were first synced. expires_at repeats the
+    // COALESCE instead of reading the new posted_at: MySQL applies SET left to right, standard SQL does not
+    private static final String BACKFILL_EXPIRY =
+            "UPDATE jobs SET posted_at = COALESCE(posted_at, created_at, NOW()), "
+            + "expires_at = TIMESTAMPADD(SECOND, :ttlSeconds, COALESCE(posted_at, created_at, NOW())) "
+            + "WHERE expires_at IS NULL LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+
+    public JobBatchRepository(NamedParameterJdbcTemplate jdbc, ObjectMapper objectMapper) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+    }
+
+    // One IN (...) query per chunk; a null value means the row predates content hashing
+    public Map<String, String> findContentHashesByIds(Collection<String> ids) {
+        Map<String, String> hashes = new HashMap<>();
+        if (ids.isEmpty()) {
+            return hashes;
+        }
+        jdbc.query(SELECT_CONTENT_HASHES, new MapSqlParameterSource("ids", ids),
+                rs -> { hashes.put(rs.getString("id"), rs.getString("content_hash")); });
+        return hashes;
+    }
+
+    // Sent as one JDBC batch; with rewriteBatchedStatements=true the MySQL
+    // driver collapses it into multi-row INSERT statements
+    public void upsertAll(List<Job> jobs, LocalDateTime now) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> rows = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            rows.add(new Object[] {
+                    job.getId(), job.getTitle(), job.getCompany(), job.getLocation(), job.getApplyUrl(),
+                    job.getJobType(), job.getSalaryAmount(), job.getSalaryCurrency(), job.getSalaryUnit(),
+                    job.getSalaryAnnual(), job.getRemote(), job.getLocationKey(),
+                    toJson(job.getBenefits()), toJson(job.getQualifications()), toJson(job.getFullDescription()),
+                    job.getContentHash(), job.getPostedAgo(), toTimestamp(job.getPostedAt()),
+                    toTimestamp(job.getExpiresAt()), timestamp, timestamp
+            });
+        }
+        jdbc.getJdbcTemplate().batchUpdate(UPSERT, rows);
+    }
+
+    // Backfill of the derived columns for rows written before they existed; content_hash is
+    // left alone, so the next sync still sees the row as changed and rewrites it in full
+    public void updateDerived(List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            rows.add(new Object[] { job.getSalaryAnnual(), job.getRemote(), job.getLocationKey(), job.getId() });
+        }
+        jdbc.getJdbcTemplate().batchUpdate(UPDATE_DERIVED, rows);
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    public List<String> findExpiredIds(LocalDateTime now, int limit) {
+        return jdbc.queryForList(SELECT_EXPIRED_IDS,
+                new MapSqlParameterSource("now", Timestamp.valueOf(now)).addValue("limit", limit), String.class);
+    }
+
+    public void archive(Collection<String> ids, LocalDateTime now) {
+        jdbc.update(ARCHIVE, new MapSqlParameterSource("ids", ids).addValue("now", Timestamp.valueOf(now)));
+    }
+
+    public int deleteByIds(Collection<String> ids) {
+        return jdbc.update(DELETE_BY_IDS, new MapSqlParameterSource("ids", ids));
+    }
+
+    // One bounded UPDATE; returns the rows touched so callers can loop until it reaches zero
+    public int backfillExpiry(Duration ttl, int limit) {
+        return jdbc.update(BACKFILL_EXPIRY,
+                new MapSqlParameterSource("ttlSeconds", ttl.toSeconds()).addValue("limit", limit));
+    }
+
+    // JSON columns are bound as text; MySQL validates and stores them in its binary JSON format
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize JSON column", e);
+        }
+    }
+}
@@ -1,8 +1,70 @@
 package com.job.demo.job.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.job.demo.job.dto.JobCardResponse;
 import com.job.demo.job.model.Job;
 
-public interface JobRepository extends JpaRepository<Job, String> {
+import jakarta.persistence.QueryHint;
+
+public interface JobRepository extends JpaRepository<Job, String>, JobRepositoryCustom {
+
+    // Card projection: selects only the short columns, never the LONGTEXT detail fields
+    String CARD_SELECT = "SELECT new com.job.demo.job.dto.JobCardResponse("
+            + "j.id, j.title, j.company, j.companyLogo, j.rating, j.location, j.jobType, "
+            + "j.salaryAmount, j.salaryCurrency, j.salaryUnit, j.postedAgo, j.applyUrl, j.createdAt) "
+            + "FROM Job j ";
+
+    // Expired rows stay invisible between purges
+    String LIVE = "(j.expiresAt IS NULL OR j.expiresAt > :now) ";
+
+    // Connector/J treats a fetch size of Integer.MIN_VALUE as "stream rows one at a time"
+    // instead of buffering the whole result set in the driver
+    String MYSQL_STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+    @Query(CARD_SELECT + "WHERE " + LIVE + "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobCardResponse> findAllCards(@Param("now") LocalDateTime now);
+
+    // Forward-only stream over the whole table in primary-key order, for the export.
+    // Must be consumed (and closed) inside a transaction.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = MYSQL_STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT j FROM Job j ORDER BY j.id")
+    Stream<Job> streamAll();
+
+    // Rows written before the derived columns existed, in primary-key batches. Locations the
+    // gazetteer could not place are retried on every startup, so gazetteer additions apply to old rows.
+    @Query("SELECT j FROM Job j WHERE (j.remote IS NULL OR (j.locationKey IS NULL AND j.location IS NOT NULL)) "
+            + "AND j.id > :afterId ORDER BY j.id")
+    List<Job> findBatchMissingDerivedAfterId(@Param("afterId") String afterId, Pageable pageable);
+
+    // Full rows in primary-key order, for loading the in-memory indexes batch by batch
+    @Query("SELECT j FROM Job j WHERE j.id > :afterId ORDER BY j.id")
+    List<Job> findBatchAfterId(@Param("afterId") String afterId, Pageable pageable);
+
+    // Keyset pagination over (created_at, id), newest first. Both queries walk
+    // idx_jobs_created_at_id_expires_at, so page cost does not grow with the table size
+    // and the expiry check is answered from the index entry.
+    @Query(CARD_SELECT + "WHERE " + LIVE + "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobCardResponse> findFirstCardPage(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query(CARD_SELECT
+            + "WHERE (j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id)) AND " + LIVE
+            + "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobCardResponse> findCardPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") String id,
+                                            @Param("now") LocalDateTime now,
+                                            Pageable pageable);
 }
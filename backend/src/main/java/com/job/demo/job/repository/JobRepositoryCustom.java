@@ -0,0 +1,13 @@
+package com.job.demo.job.repository;
+
+import java.util.List;
+
+import com.job.demo.job.dto.JobCardResponse;
+import com.job.demo.job.dto.JobCursor;
+import com.job.demo.job.dto.JobFilter;
+
+public interface JobRepositoryCustom {
+
+    // Keyset page like findFirstCardPage / findCardPageAfter, with only the requested filters in the WHERE clause
+    List<JobCardResponse> findFilteredCardPage(JobFilter filter, JobCursor after, int limit);
+}
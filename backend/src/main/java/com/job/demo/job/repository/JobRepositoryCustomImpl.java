@@ -0,0 +1,75 @@
+package com.job.demo.job.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.job.demo.job.dto.JobCardResponse;
+import com.job.demo.job.dto.JobCursor;
+import com.job.demo.job.dto.JobFilter;
+import com.job.demo.job.model.Job;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Builds the filtered card query with the Criteria API so that absent
+ * filters are left out of the SQL entirely. "(:x IS NULL OR col = :x)"
+ * style JPQL would keep MySQL from using the column indexes.
+ */
+class JobRepositoryCustomImpl implements JobRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    JobRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<JobCardResponse> findFilteredCardPage(JobFilter filter, JobCursor after, int limit) {
+        if (filter.getLocationKeys() != null && filter.getLocationKeys().isEmpty()) {
+            // No known place within the radius: nothing can match
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobCardResponse> query = cb.createQuery(JobCardResponse.class);
+        Root<Job> job = query.from(Job.class);
+        Path<LocalDateTime> createdAt = job.get("createdAt");
+        Path<String> id = job.get("id");
+
+        // Same columns as JobRepository.CARD_SELECT
+        query.select(cb.construct(JobCardResponse.class,
+                id, job.get("title"), job.get("company"), job.get("companyLogo"), job.get("rating"),
+                job.get("location"), job.get("jobType"), job.get("salaryAmount"), job.get("salaryCurrency"),
+                job.get("salaryUnit"), job.get("postedAgo"), job.get("applyUrl"), createdAt));
+
+        List<Predicate> where = new ArrayList<>();
+        Path<LocalDateTime> expiresAt = job.get("expiresAt");
+        where.add(cb.or(cb.isNull(expiresAt), cb.greaterThan(expiresAt, LocalDateTime.now())));
+        if (filter.getRemote() != null) {
+            where.add(cb.equal(job.get("remote"), filter.getRemote()));
+        }
+        if (filter.getJobType() != null) {
+            where.add(cb.equal(job.get("jobType"), filter.getJobType()));
+        }
+        if (filter.getMinSalary() != null) {
+            where.add(cb.greaterThanOrEqualTo(job.get("salaryAnnual"), filter.getMinSalary()));
+        }
+        if (filter.getLocationKeys() != null) {
+            where.add(job.get("locationKey").in(filter.getLocationKeys()));
+        }
+        if (after != null) {
+            where.add(cb.or(
+                    cb.lessThan(createdAt, after.getCreatedAt()),
+                    cb.and(cb.equal(createdAt, after.getCreatedAt()), cb.lessThan(id, after.getId()))));
+        }
+        query.where(where.toArray(new Predicate[0]));
+        query.orderBy(cb.desc(createdAt), cb.desc(id));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
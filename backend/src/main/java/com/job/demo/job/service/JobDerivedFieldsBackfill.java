@@ -0,0 +1,71 @@
+package com.job.demo.job.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.job.demo.job.model.Job;
+import com.job.demo.job.repository.JobBatchRepository;
+import com.job.demo.job.repository.JobRepository;
+
+/**
+ * Fills salary_annual, remote, location_key and the expiry columns for
+ * rows synced before those columns existed. Runs once at startup, ahead of the index load;
+ * after the first run it only revisits rows whose location is unplaced.
+ */
+@Component
+public class JobDerivedFieldsBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(JobDerivedFieldsBackfill.class);
+
+    private final JobRepository jobRepository;
+    private final JobBatchRepository jobBatchRepository;
+    private final JobService jobService;
+    private final int batchSize;
+
+    public JobDerivedFieldsBackfill(JobRepository jobRepository,
+                                    JobBatchRepository jobBatchRepository,
+                                    JobService jobService,
+                                    @Value("${jobs.index.load-batch-size:1000}") int batchSize) {
+        this.jobRepository = jobRepository;
+        this.jobBatchRepository = jobBatchRepository;
+        this.jobService = jobService;
+        this.batchSize = batchSize;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = 0;
+        String lastId = "";
+        while (true) {
+            List<Job> batch = jobRepository.findBatchMissingDerivedAfterId(lastId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            batch.forEach(jobService::applyDerivedFields);
+            jobBatchRepository.updateDerived(batch);
+            updated += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        if (updated > 0) {
+            log.info("Backfilled derived columns on {} jobs", updated);
+        }
+
+        int expiring = 0;
+        for (int touched; (touched = jobBatchRepository.backfillExpiry(jobService.getDefaultTtl(), batchSize)) > 0; ) {
+            expiring += touched;
+        }
+        if (expiring > 0) {
+            log.info("Set posted_at/expires_at on {} jobs", expiring);
+        }
+    }
+}
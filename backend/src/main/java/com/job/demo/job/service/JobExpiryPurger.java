@@ -0,0 +1,83 @@
+package com.job.demo.job.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.job.demo.job.repository.JobBatchRepository;
+
+/**
+ * Deletes jobs whose expires_at has passed, optionally copying them into
+ * jobs_archive first. Works in small batches, each in its own short
+ * transaction with a pause in between, so a large backlog of expired rows
+ * never holds long locks against the ingestion writer. Every committed batch
+ * is published as a removal so the in-memory indexes and caches drop it.
+ */
+@Component
+public class JobExpiryPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(JobExpiryPurger.class);
+
+    private final JobBatchRepository jobBatchRepository;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final boolean archive;
+    private final Duration pause;
+
+    public JobExpiryPurger(JobBatchRepository jobBatchRepository,
+                           JobService jobService,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${jobs.expiry.batch-size:500}") int batchSize,
+                           @Value("${jobs.expiry.archive:false}") boolean archive,
+                           @Value("${jobs.expiry.batch-pause:PT0.2S}") Duration pause) {
+        this.jobBatchRepository = jobBatchRepository;
+        this.jobService = jobService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.archive = archive;
+        this.pause = pause;
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.expiry.purge-interval:PT10M}",
+               initialDelayString = "${jobs.expiry.initial-delay:PT1M}")
+    public void purgeExpired() throws InterruptedException {
+        int purged = 0;
+        while (true) {
+            List<String> ids = transactionTemplate.execute(status -> purgeBatch(LocalDateTime.now()));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            // Published only after the commit, so listeners never drop rows that are rolled back
+            jobService.publishRemoved(ids);
+            purged += ids.size();
+            if (ids.size() < batchSize) {
+                break;
+            }
+            Thread.sleep(pause.toMillis());
+        }
+        if (purged > 0) {
+            log.info("Purged {} expired jobs{}", purged, archive ? " into jobs_archive" : "");
+        }
+    }
+
+    private List<String> purgeBatch(LocalDateTime now) {
+        List<String> ids = jobBatchRepository.findExpiredIds(now, batchSize);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        if (archive) {
+            jobBatchRepository.archive(ids, now);
+        }
+        jobBatchRepository.deleteByIds(ids);
+        return ids;
+    }
+}
@@ -0,0 +1,69 @@
+package com.job.demo.job.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.job.demo.job.model.Job;
+import com.job.demo.job.repository.JobRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Writes the whole jobs table as newline-delimited JSON. Rows come off a
+ * streaming MySQL result set and each entity is detached once written, so
+ * memory stays flat whatever the table size.
+ */
+@Service
+public class JobExportService {
+
+    private final JobRepository jobRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter writer;
+    private final ObjectMapper objectMapper;
+
+    public JobExportService(JobRepository jobRepository,
+                            EntityManager entityManager,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper) {
+        this.jobRepository = jobRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        // The response stream is flushed by the container in its own buffer-sized chunks, not per row
+        this.writer = objectMapper.writerFor(Job.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    // Returns the number of jobs written
+    public long writeNdjson(OutputStream out) {
+        Long written = readOnlyTransaction.execute(status -> {
+            long count = 0;
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+                 Stream<Job> jobs = jobRepository.streamAll()) {
+                // The caller owns the response stream (and any gzip wrapper around it)
+                generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                for (Job job : (Iterable<Job>) jobs::iterator) {
+                    writer.writeValue(generator, job);
+                    generator.writeRaw('\n');
+                    entityManager.detach(job);
+                    count++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Job export aborted", e);
+            }
+            return count;
+        });
+        return written != null ? written : 0L;
+    }
+}
@@ -0,0 +1,77 @@
+package com.job.demo.job.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.demo.job.model.Job;
+
+/**
+ * SHA-256 over every column the sync writes. Two jobs with the same
+ * fingerprint would produce an identical row, so the write can be skipped.
+ * The posting-age columns are left out: "3 days ago" turns into "4 days
+ * ago" with the clock, not because the job changed.
+ */
+final class JobFingerprint {
+
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char NULL_MARKER = '\u0000';
+
+    private JobFingerprint() {}
+
+    // JSON fields are hashed in their serialized form, which is what gets written
+    static String of(Job job, ObjectMapper objectMapper) {
+        StringBuilder content = new StringBuilder(256);
+        append(content, job.getTitle());
+        append(content, job.getCompany());
+        append(content, job.getLocation());
+        append(content, job.getApplyUrl());
+        append(content, job.getJobType());
+        append(content, String.valueOf(job.getSalaryAmount()));
+        append(content, job.getSalaryCurrency());
+        append(content, job.getSalaryUnit());
+        append(content, String.valueOf(job.getSalaryAnnual()));
+        append(content, String.valueOf(job.getRemote()));
+        append(content, job.getLocationKey());
+        try {
+            append(content, objectMapper.writeValueAsString(job.getBenefits()));
+            append(content, objectMapper.writeValueAsString(job.getQualifications()));
+            append(content, objectMapper.writeValueAsString(job.getFullDescription()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize job " + job.getId(), e);
+        }
+        return HexFormat.of().formatHex(sha256().digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // Stable id for a job the source sent without one: the same posting maps to the same row on every sync
+    static String syntheticId(Job job) {
+        StringBuilder content = new StringBuilder(128);
+        append(content, normalize(job.getTitle()));
+        append(content, normalize(job.getCompany()));
+        append(content, normalize(job.getLocation()));
+        append(content, normalize(job.getApplyUrl()));
+        byte[] digest = sha256().digest(content.toString().getBytes(StandardCharsets.UTF_8));
+        return "gen-" + HexFormat.of().formatHex(digest, 0, 16);
+    }
+
+    private static String normalize(String value) {
+        return value != null ? value.strip().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static void append(StringBuilder content, String value) {
+        // Distinguishes null from "" so clearing a field still counts as a change
+        content.append(value != null ? value : String.valueOf(NULL_MARKER)).append(FIELD_SEPARATOR);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
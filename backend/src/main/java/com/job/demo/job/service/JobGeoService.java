@@ -0,0 +1,56 @@
+package com.job.demo.job.service;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.job.demo.job.geo.Gazetteer;
+import com.job.demo.job.geo.JobGeoIndex;
+import com.job.demo.job.geo.Place;
+
+// Resolves ?near=&radiusKm= against the gazetteer and the in-memory JobGeoIndex
+@Service
+public class JobGeoService {
+
+    private final Gazetteer gazetteer;
+    private final JobGeoIndex jobGeoIndex;
+    private final double defaultRadiusKm;
+    private final double maxRadiusKm;
+
+    public JobGeoService(Gazetteer gazetteer,
+                         JobGeoIndex jobGeoIndex,
+                         @Value("${jobs.geo.default-radius-km:25}") double defaultRadiusKm,
+                         @Value("${jobs.geo.max-radius-km:500}") double maxRadiusKm) {
+        this.gazetteer = gazetteer;
+        this.jobGeoIndex = jobGeoIndex;
+        this.defaultRadiusKm = defaultRadiusKm;
+        this.maxRadiusKm = maxRadiusKm;
+    }
+
+    // Keys of the places with jobs in range, or null when no location filter was asked for
+    public Set<String> placesNear(String near, Double radiusKm) {
+        if (near == null || near.isBlank()) {
+            if (radiusKm != null) {
+                throw new IllegalArgumentException("radiusKm requires near");
+            }
+            return null;
+        }
+        Place center = gazetteer.resolve(near);
+        if (center == null) {
+            throw new IllegalArgumentException("Unknown location: " + near.strip());
+        }
+        double radius = radiusKm != null ? radiusKm : defaultRadiusKm;
+        if (!(radius > 0) || radius > maxRadiusKm) {
+            throw new IllegalArgumentException("radiusKm must be between 0 and " + maxRadiusKm);
+        }
+        return jobGeoIndex.placesWithin(center.getLat(), center.getLon(), radius);
+    }
+
+    // For the in-memory feeds: true for jobs outside the given places
+    public Predicate<String> outside(Set<String> placeKeys) {
+        Set<String> inside = jobGeoIndex.jobsAt(placeKeys);
+        return id -> !inside.contains(id);
+    }
+}
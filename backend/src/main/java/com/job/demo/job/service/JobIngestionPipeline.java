@@ -0,0 +1,214 @@
+package com.job.demo.job.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.job.demo.config.BackgroundThreads;
+import com.job.demo.job.client.JobSourceProperties;
+import com.job.demo.job.client.JobSourceProperties.Source;
+import com.job.demo.job.client.N8nJobClient;
+import com.job.demo.job.dto.IngestionRun;
+import com.job.demo.job.dto.JobSyncResult;
+import com.job.demo.job.dto.SourceRun;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fetches every configured source at once and funnels their parsed chunks
+ * through one bounded queue into a single writer (the calling thread).
+ * A full queue blocks the fetchers, so a slow database slows the downloads
+ * instead of piling parsed jobs up in memory. Each fetch has its own
+ * deadline; one slow or broken source does not hold back the others.
+ */
+@Component
+public class JobIngestionPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(JobIngestionPipeline.class);
+
+    private static final long POLL_MS = 100;
+
+    // Reads one source, handing parsed chunks to the sink as they complete; returns the job count
+    interface SourceFetcher {
+        int fetch(Source source, int chunkSize, Consumer<List<Map<String, Object>>> sink) throws Exception;
+    }
+
+    interface ChunkWriter {
+        JobSyncResult write(Source source, List<Map<String, Object>> chunk);
+    }
+
+    private final SourceFetcher fetcher;
+    private final ChunkWriter writer;
+    private final int chunkSize;
+    private final List<Source> sources;
+    private final int pipelineCapacity;
+    private final ExecutorService fetchers;
+
+    @Autowired
+    public JobIngestionPipeline(N8nJobClient n8nJobClient,
+                                JobService jobService,
+                                JobSourceProperties properties,
+                                BackgroundThreads backgroundThreads,
+                                @Value("${jobs.n8n.webhook-url:}") String defaultWebhookUrl) {
+        this((source, size, sink) -> n8nJobClient.streamJobs(source.getUrl(), size, sink),
+                (source, chunk) -> jobService.syncChunk(chunk,
+                        source.getTtl() != null ? source.getTtl() : jobService.getDefaultTtl()),
+                jobService.getSyncChunkSize(),
+                enabledSources(properties, defaultWebhookUrl),
+                properties.getMaxConcurrentSources(),
+                properties.getPipelineCapacity(),
+                backgroundThreads);
+    }
+
+    JobIngestionPipeline(SourceFetcher fetcher, ChunkWriter writer, int chunkSize, List<Source> sources,
+                         int maxConcurrentSources, int pipelineCapacity, BackgroundThreads backgroundThreads) {
+        if (maxConcurrentSources < 1 || pipelineCapacity < 1) {
+            throw new IllegalArgumentException("max-concurrent-sources and pipeline-capacity must be positive");
+        }
+        this.fetcher = fetcher;
+        this.writer = writer;
+        this.chunkSize = chunkSize;
+        this.sources = sources;
+        this.pipelineCapacity = pipelineCapacity;
+        this.fetchers = Executors.newFixedThreadPool(maxConcurrentSources, backgroundThreads.factory("job-source"));
+    }
+
+    // The listed sources, or just the n8n webhook when none are configured
+    private static List<Source> enabledSources(JobSourceProperties properties, String defaultWebhookUrl) {
+        List<Source> enabled = new ArrayList<>();
+        for (Source source : properties.getSources()) {
+            if (source.getName() == null || source.getName().isBlank() || source.getUrl() == null || source.getUrl().isBlank()) {
+                throw new IllegalStateException("Every jobs.ingest.sources entry needs a name and a url");
+            }
+            if (source.isEnabled()) {
+                enabled.add(source);
+            }
+        }
+        if (properties.getSources().isEmpty() && !defaultWebhookUrl.isBlank()) {
+            Source n8n = new Source();
+            n8n.setName("n8n");
+            n8n.setUrl(defaultWebhookUrl);
+            enabled.add(n8n);
+        }
+        return enabled;
+    }
+
+    public int getSourceCount() {
+        return sources.size();
+    }
+
+    // Blocks until every source has finished, failed or timed out and all fetched chunks are written.
+    // Per-source outcomes are recorded on the run; a failing write aborts the whole run.
+    public JobSyncResult run(IngestionRun run) throws InterruptedException {
+        BlockingQueue<Chunk> pipeline = new ArrayBlockingQueue<>(pipelineCapacity);
+        List<Fetch> fetches = new ArrayList<>();
+        for (Source source : sources) {
+            Fetch fetch = new Fetch(source, run.addSource(source.getName()));
+            fetch.future = fetchers.submit(() -> fetch(fetch, pipeline));
+            fetches.add(fetch);
+        }
+
+        JobSyncResult total = new JobSyncResult();
+        try {
+            while (true) {
+                Chunk chunk = pipeline.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (chunk != null) {
+                    JobSyncResult written = writer.write(chunk.fetch.source, chunk.jobs);
+                    chunk.fetch.stats.addWritten(written);
+                    total.add(written);
+                }
+                enforceDeadlines(fetches);
+                // A fetch puts its last chunk before it completes, so done + empty means nothing is left
+                if (fetches.stream().allMatch(f -> f.future.isDone()) && pipeline.isEmpty()) {
+                    return total;
+                }
+            }
+        } finally {
+            fetches.forEach(f -> f.future.cancel(true));
+        }
+    }
+
+    private void fetch(Fetch fetch, BlockingQueue<Chunk> pipeline) {
+        SourceRun stats = fetch.stats;
+        stats.start();
+        fetch.deadlineNanos = System.nanoTime() + fetch.source.getTimeout().toNanos();
+        try {
+            int received = fetcher.fetch(fetch.source, chunkSize, jobs -> enqueue(fetch, pipeline, new Chunk(fetch, jobs)));
+            if (stats.finish(SourceRun.State.SUCCEEDED, null)) {
+                log.info("Source {} returned {} jobs in {} ms", stats.getName(), received, stats.getDurationMs());
+            }
+        } catch (Exception e) {
+            if (stats.finish(SourceRun.State.FAILED, e.getMessage())) {
+                log.warn("Source {} failed after {} ms", stats.getName(), stats.getDurationMs(), e);
+            }
+        }
+    }
+
+    private void enqueue(Fetch fetch, BlockingQueue<Chunk> pipeline, Chunk chunk) {
+        long blockedFrom = System.nanoTime();
+        try {
+            pipeline.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Fetch of " + fetch.source.getName() + " was cancelled");
+        }
+        // Time spent waiting on the writer is ours, not the source's, so it does not count against the timeout
+        fetch.deadlineNanos += System.nanoTime() - blockedFrom;
+    }
+
+    private void enforceDeadlines(List<Fetch> fetches) {
+        long now = System.nanoTime();
+        for (Fetch fetch : fetches) {
+            long deadline = fetch.deadlineNanos;
+            if (deadline != 0 && now - deadline > 0 && !fetch.future.isDone()
+                    && fetch.stats.finish(SourceRun.State.TIMED_OUT, "No complete response within " + fetch.source.getTimeout())) {
+                log.warn("Source {} timed out after {}", fetch.source.getName(), fetch.source.getTimeout());
+                fetch.future.cancel(true);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchers.shutdownNow();
+    }
+
+    private static final class Fetch {
+
+        private final Source source;
+        private final SourceRun stats;
+        private volatile Future<?> future;
+        // Zero until the fetch has started; sources waiting for a free fetcher have no deadline yet
+        private volatile long deadlineNanos;
+
+        Fetch(Source source, SourceRun stats) {
+            this.source = source;
+            this.stats = stats;
+        }
+    }
+
+    private static final class Chunk {
+
+        private final Fetch fetch;
+        private final List<Map<String, Object>> jobs;
+
+        Chunk(Fetch fetch, List<Map<String, Object>> jobs) {
+            this.fetch = fetch;
+            this.jobs = jobs;
+        }
+    }
+}
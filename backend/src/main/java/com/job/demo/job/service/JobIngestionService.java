@@ -0,0 +1,121 @@
+package com.job.demo.job.service;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.job.demo.config.BackgroundThreads;
+import com.job.demo.job.dto.IngestionRun;
+import com.job.demo.job.dto.IngestionStatusResponse;
+import com.job.demo.job.dto.JobSyncResult;
+import com.job.demo.job.dto.SourceRun;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs ingestion of all job sources off the request path. At most one run
+ * is in flight: triggers that arrive while a run is active get that run
+ * back instead of starting another one.
+ */
+@Service
+public class JobIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobIngestionService.class);
+
+    private final JobIngestionPipeline pipeline;
+    private final MeterRegistry meterRegistry;
+    private final boolean scheduleEnabled;
+    private final ExecutorService worker;
+
+    private final AtomicReference<IngestionRun> currentRun = new AtomicReference<>();
+    private volatile IngestionRun lastRun;
+
+    public JobIngestionService(JobIngestionPipeline pipeline,
+                               BackgroundThreads backgroundThreads,
+                               MeterRegistry meterRegistry,
+                               @Value("${jobs.ingest.schedule-enabled:true}") boolean scheduleEnabled) {
+        this.pipeline = pipeline;
+        this.meterRegistry = meterRegistry;
+        this.scheduleEnabled = scheduleEnabled;
+        this.worker = backgroundThreads.singleThread("job-ingestion");
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.ingest.interval:PT15M}",
+               initialDelayString = "${jobs.ingest.initial-delay:PT30S}")
+    public void scheduledRun() {
+        if (scheduleEnabled) {
+            trigger("scheduled");
+        }
+    }
+
+    // Non-blocking; returns the run that will carry out (or is already carrying out) the work
+    public IngestionRun trigger(String source) {
+        IngestionRun candidate = new IngestionRun(UUID.randomUUID().toString(), source, Instant.now());
+        IngestionRun inFlight = currentRun.compareAndExchange(null, candidate);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        try {
+            worker.execute(() -> execute(candidate));
+        } catch (RejectedExecutionException e) {
+            // Never started, so nothing else would clear it and every later trigger would get this run back
+            candidate.fail("Ingestion worker is not accepting runs");
+            lastRun = candidate;
+            currentRun.compareAndSet(candidate, null);
+            log.warn("Ingestion run {} rejected; the worker is shut down", candidate.getRunId());
+        }
+        return candidate;
+    }
+
+    public IngestionStatusResponse getStatus() {
+        return new IngestionStatusResponse(currentRun.get(), lastRun);
+    }
+
+    private void execute(IngestionRun run) {
+        try {
+            if (pipeline.getSourceCount() == 0) {
+                throw new IllegalStateException("No job sources are configured");
+            }
+            JobSyncResult total = pipeline.run(run);
+            long failed = run.getSources().stream().filter(s -> s.getState() != SourceRun.State.SUCCEEDED).count();
+            if (failed == 0) {
+                run.succeed(total);
+            } else if (failed < run.getSources().size()) {
+                run.partial(total, failed + " of " + run.getSources().size() + " sources failed");
+            } else {
+                run.fail("All " + failed + " sources failed");
+            }
+            log.info("Ingestion run {} synced {} jobs from {} sources in {} ms ({} failed)", run.getRunId(),
+                    total.getReceived(), run.getSources().size(), run.getDurationMs(), failed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.fail("Interrupted");
+        } catch (Exception e) {
+            run.fail(e.getMessage());
+            log.warn("Ingestion run {} failed", run.getRunId(), e);
+        } finally {
+            // Whole-run duration by outcome, for the sync-duration SLO
+            meterRegistry.timer("jobs.ingest.run", "state", run.getState().name().toLowerCase(Locale.ROOT))
+                    .record(run.getDurationMs(), TimeUnit.MILLISECONDS);
+            lastRun = run;
+            currentRun.set(null);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
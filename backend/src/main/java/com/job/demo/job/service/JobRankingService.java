@@ -0,0 +1,91 @@
+package com.job.demo.job.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.job.demo.job.dto.JobCardResponse;
+import com.job.demo.job.dto.JobPageResponse;
+import com.job.demo.job.dto.RankCursor;
+import com.job.demo.job.geo.Gazetteer;
+import com.job.demo.job.index.JobMatchIndex;
+import com.job.demo.job.index.JobMatchIndex.RankedJob;
+import com.job.demo.job.index.MatchProfile;
+import com.job.demo.model.Skill;
+import com.job.demo.repository.UserProfileRepository;
+import com.job.demo.repository.UserRepository;
+import com.job.demo.swipe.service.SeenJobsService;
+
+// Personalized feed: ranks the in-memory catalog against the caller's profile
+@Service
+public class JobRankingService {
+
+    private final JobMatchIndex jobMatchIndex;
+    private final JobService jobService;
+    private final UserRepository userRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final SeenJobsService seenJobsService;
+    private final JobGeoService jobGeoService;
+    private final Gazetteer gazetteer;
+
+    public JobRankingService(JobMatchIndex jobMatchIndex,
+                             JobService jobService,
+                             UserRepository userRepository,
+                             UserProfileRepository userProfileRepository,
+                             SeenJobsService seenJobsService,
+                             JobGeoService jobGeoService,
+                             Gazetteer gazetteer) {
+        this.jobMatchIndex = jobMatchIndex;
+        this.jobService = jobService;
+        this.userRepository = userRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.seenJobsService = seenJobsService;
+        this.jobGeoService = jobGeoService;
+        this.gazetteer = gazetteer;
+    }
+
+    // email is null for anonymous callers, who get the catalog by recency.
+    // nearPlaces (from JobGeoService.placesNear) limits the feed to those places; null means anywhere
+    @Transactional(readOnly = true)
+    public JobPageResponse rankFeed(String email, String cursorToken, Integer limit, Set<String> nearPlaces) {
+        int pageSize = jobService.resolvePageSize(limit);
+        RankCursor cursor = RankCursor.decode(cursorToken);
+        MatchProfile profile = email != null ? profileFor(email) : MatchProfile.ANONYMOUS;
+
+        // One extra result tells us whether another page exists
+        // Jobs the user already swiped on are skipped
+        Predicate<String> hidden = seenJobsService.seenBy(email);
+        if (nearPlaces != null) {
+            hidden = hidden.or(jobGeoService.outside(nearPlaces));
+        }
+        List<RankedJob> ranked = jobMatchIndex.topK(profile, pageSize + 1, cursor, hidden);
+        List<RankedJob> page = ranked.size() > pageSize ? ranked.subList(0, pageSize) : ranked;
+        List<JobCardResponse> cards = page.stream().map(RankedJob::getCard).toList();
+
+        String nextCursor = null;
+        if (ranked.size() > pageSize) {
+            RankedJob last = page.get(page.size() - 1);
+            nextCursor = new RankCursor(last.getScore(), last.getCard().getId()).encode();
+        }
+        return new JobPageResponse(cards, nextCursor);
+    }
+
+    // Skills are a lazy collection, so this needs the surrounding read-only transaction
+    @Transactional(readOnly = true)
+    public MatchProfile profileFor(String email) {
+        return userRepository.findByEmail(email)
+                .flatMap(userProfileRepository::findByUser)
+                .map(profile -> {
+                    Set<String> skills = profile.getSkills() == null ? Set.of()
+                            : profile.getSkills().stream().map(Skill::getName).collect(Collectors.toSet());
+                    return MatchProfile.of(skills, profile.getTargetRole(), profile.isRemoteOnly(),
+                            profile.getPreferredLocation(), profile.getMinSalary(), profile.getExperienceYears())
+                            .withLocationKey(gazetteer.resolveKey(profile.getPreferredLocation()));
+                })
+                .orElse(MatchProfile.ANONYMOUS);
+    }
+}
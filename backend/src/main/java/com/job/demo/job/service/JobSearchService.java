@@ -0,0 +1,35 @@
+package com.job.demo.job.service;
+
+import org.springframework.stereotype.Service;
+
+import com.job.demo.job.dto.JobSearchResponse;
+import com.job.demo.job.index.JobSearchIndex;
+import com.job.demo.job.index.JobSearchIndex.ScoredCard;
+import com.job.demo.job.index.JobSearchIndex.SearchResult;
+
+// Keyword search, answered entirely from the in-memory JobSearchIndex
+@Service
+public class JobSearchService {
+
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final JobSearchIndex jobSearchIndex;
+    private final JobService jobService;
+
+    public JobSearchService(JobSearchIndex jobSearchIndex, JobService jobService) {
+        this.jobSearchIndex = jobSearchIndex;
+        this.jobService = jobService;
+    }
+
+    public JobSearchResponse search(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Query must not be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Query is longer than " + MAX_QUERY_LENGTH + " characters");
+        }
+        SearchResult result = jobSearchIndex.search(query, jobService.resolvePageSize(limit));
+        return new JobSearchResponse(query.strip(), result.getTotalMatches(),
+                result.getHits().stream().map(ScoredCard::getCard).toList());
+    }
+}
@@ -1,52 +1,457 @@
 package com.job.demo.job.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.demo.job.dto.JobCardResponse;
+import com.job.demo.job.dto.JobCursor;
+import com.job.demo.job.dto.JobFilter;
+import com.job.demo.job.dto.JobPageResponse;
+import com.job.demo.job.dto.JobSyncResult;
+import com.job.demo.job.event.JobsChangedEvent;
+import com.job.demo.job.geo.Gazetteer;
+import com.job.demo.job.index.JobDuplicateIndex;
+import com.job.demo.job.index.JobTextAnalyzer;
+import com.job.demo.job.index.SimHash;
+import com.job.demo.job.index.SimHashLsh;
 import com.job.demo.job.model.Job;
+import com.job.demo.job.model.JobDescription;
+import com.job.demo.job.repository.JobBatchRepository;
 import com.job.demo.job.repository.JobRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
 @Service
 public class JobService {
 
+    private static final Logger log = LoggerFactory.getLogger(JobService.class);
+
+    private static final int MAX_FILTERED_WINDOWS = 5;
+
     private final JobRepository jobRepository;
+    private final JobBatchRepository jobBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final SalaryNormalizer salaryNormalizer;
+    private final Gazetteer gazetteer;
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
+    private final JobDuplicateIndex jobDuplicateIndex;
+    private final boolean dedupEnabled;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int syncChunkSize;
+    private final Duration defaultTtl;
 
-    public JobService(JobRepository jobRepository) {
+    // Bumped after every committed change to the jobs table. The startup time keeps
+    // tags from a previous process from matching once the counter restarts at zero.
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final String catalogEpoch = Long.toHexString(System.currentTimeMillis());
+    private volatile CardList allCards;
+
+    public JobService(JobRepository jobRepository,
+                      JobBatchRepository jobBatchRepository,
+                      TransactionTemplate transactionTemplate,
+                      ApplicationEventPublisher eventPublisher,
+                      ObjectMapper objectMapper,
+                      SalaryNormalizer salaryNormalizer,
+                      Gazetteer gazetteer,
+                      ObservationRegistry observationRegistry,
+                      MeterRegistry meterRegistry,
+                      JobDuplicateIndex jobDuplicateIndex,
+                      @Value("${jobs.dedup.enabled:true}") boolean dedupEnabled,
+                      @Value("${jobs.feed.default-page-size:20}") int defaultPageSize,
+                      @Value("${jobs.feed.max-page-size:100}") int maxPageSize,
+                      @Value("${jobs.sync.chunk-size:500}") int syncChunkSize,
+                      @Value("${jobs.expiry.default-ttl:P30D}") Duration defaultTtl) {
         this.jobRepository = jobRepository;
+        this.jobBatchRepository = jobBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.salaryNormalizer = salaryNormalizer;
+        this.gazetteer = gazetteer;
+        this.observationRegistry = observationRegistry;
+        this.meterRegistry = meterRegistry;
+        this.jobDuplicateIndex = jobDuplicateIndex;
+        this.dedupEnabled = dedupEnabled;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.syncChunkSize = syncChunkSize;
+        this.defaultTtl = defaultTtl;
+    }
+
+    public List<JobCardResponse> getAllJobCards() {
+        return jobRepository.findAllCards(LocalDateTime.now());
+    }
+
+    // The same list, read from MySQL once per catalog version and then shared (read-only) by every caller
+    public List<JobCardResponse> getAllJobCardsCached() {
+        long version = catalogVersion.get();
+        CardList current = allCards;
+        if (current != null && current.version == version) {
+            return current.cards;
+        }
+        // Tagged with the version read before the query, so a sync landing mid-read only costs a reload
+        List<JobCardResponse> cards = List.copyOf(getAllJobCards());
+        allCards = new CardList(version, cards);
+        return cards;
+    }
+
+    public Optional<Job> getJob(String id) {
+        return jobRepository.findById(id);
+    }
+
+    public JobPageResponse getJobPage(String cursorToken, Integer limit, JobFilter filter) {
+        int pageSize = resolvePageSize(limit);
+        JobCursor cursor = JobCursor.decode(cursorToken);
+
+        // Ask for one extra row so we know whether another page exists without a COUNT
+        List<JobCardResponse> rows = fetchWindow(filter, cursor, pageSize + 1);
+
+        if (rows.size() <= pageSize) {
+            return new JobPageResponse(rows, null);
+        }
+        List<JobCardResponse> page = rows.subList(0, pageSize);
+        JobCardResponse last = page.get(pageSize - 1);
+        return new JobPageResponse(page, new JobCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    // Same keyset walk, skipping cards the caller should not see (e.g. already swiped).
+    // Scans a bounded number of windows per request; a short page still carries a cursor.
+    public JobPageResponse getJobPage(String cursorToken, Integer limit, JobFilter filter, Predicate<String> hidden) {
+        int pageSize = resolvePageSize(limit);
+        int windowSize = pageSize * 2;
+        JobCursor position = JobCursor.decode(cursorToken);
+
+        List<JobCardResponse> page = new ArrayList<>(pageSize);
+        JobCardResponse lastScanned = null;
+        boolean exhausted = false;
+        for (int window = 0; window < MAX_FILTERED_WINDOWS && page.size() < pageSize; window++) {
+            List<JobCardResponse> rows = fetchWindow(filter, position, windowSize);
+            int scanned = 0;
+            for (JobCardResponse row : rows) {
+                if (page.size() == pageSize) {
+                    break;
+                }
+                lastScanned = row;
+                scanned++;
+                if (!hidden.test(row.getId())) {
+                    page.add(row);
+                }
+            }
+            if (rows.size() < windowSize && scanned == rows.size()) {
+                exhausted = true;
+                break;
+            }
+            position = new JobCursor(lastScanned.getCreatedAt(), lastScanned.getId());
+        }
+
+        String nextCursor = exhausted || lastScanned == null
+                ? null
+                : new JobCursor(lastScanned.getCreatedAt(), lastScanned.getId()).encode();
+        return new JobPageResponse(page, nextCursor);
+    }
+
+    // Unfiltered pages use the fixed keyset queries; filters go through the Criteria query
+    private List<JobCardResponse> fetchWindow(JobFilter filter, JobCursor after, int size) {
+        if (!filter.isEmpty()) {
+            return jobRepository.findFilteredCardPage(filter, after, size);
+        }
+        Pageable window = PageRequest.of(0, size);
+        return after == null
+                ? jobRepository.findFirstCardPage(LocalDateTime.now(), window)
+                : jobRepository.findCardPageAfter(after.getCreatedAt(), after.getId(), LocalDateTime.now(), window);
+    }
+
+    public int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    public long getCatalogVersion() {
+        return catalogVersion.get();
+    }
+
+    // Opaque validator for the given version; no DB access, so conditional GETs stay cheap
+    public String catalogTag(long version) {
+        return catalogEpoch + "-" + version;
+    }
+
+    public int getSyncChunkSize() {
+        return syncChunkSize;
+    }
+
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    // Chunked sync: each chunk is one transaction with one bulk SELECT and one batched upsert
+    public JobSyncResult syncJobsFromMaps(List<Map<String, Object>> jobMaps) {
+        JobSyncResult total = new JobSyncResult();
+        for (int from = 0; from < jobMaps.size(); from += syncChunkSize) {
+            total.add(syncChunk(jobMaps.subList(from, Math.min(from + syncChunkSize, jobMaps.size()))));
+        }
+        return total;
+    }
+
+    public JobSyncResult syncChunk(List<Map<String, Object>> chunk) {
+        return syncChunk(chunk, defaultTtl);
+    }
+
+    // Entry point for streaming ingestion; callers keep chunks at or below getSyncChunkSize().
+    // ttl is how long after posting the source's listings stay in the catalog.
+    public JobSyncResult syncChunk(List<Map<String, Object>> chunk, Duration ttl) {
+        List<Job> changed = new ArrayList<>();
+        JobSyncResult result = Observation.createNotStarted("jobs.sync.chunk", observationRegistry)
+                .observe(() -> transactionTemplate.execute(status -> writeChunk(chunk, ttl, changed)));
+        countRows(result);
+
+        // Published after commit so listeners (caches, indexes) never see uncommitted rows
+        if (!changed.isEmpty()) {
+            catalogVersion.incrementAndGet();
+            eventPublisher.publishEvent(new JobsChangedEvent(changed.stream().map(Job::getId).toList(), List.of()));
+        }
+        return result;
+    }
+
+    // jobs.sync.rows{result=...}: what became of each received row
+    private void countRows(JobSyncResult result) {
+        meterRegistry.counter("jobs.sync.rows", "result", "inserted").increment(result.getInserted());
+        meterRegistry.counter("jobs.sync.rows", "result", "updated").increment(result.getUpdated());
+        meterRegistry.counter("jobs.sync.rows", "result", "unchanged").increment(result.getUnchanged());
+        meterRegistry.counter("jobs.sync.rows", "result", "expired").increment(result.getExpired());
+        meterRegistry.counter("jobs.sync.rows", "result", "duplicate").increment(result.getDuplicates());
+    }
+
+    // Called by the expiry purger once the rows are gone
+    public void publishRemoved(List<String> ids) {
+        if (!ids.isEmpty()) {
+            catalogVersion.incrementAndGet();
+            eventPublisher.publishEvent(new JobsChangedEvent(List.of(), ids));
+        }
+    }
+
+    private JobSyncResult writeChunk(List<Map<String, Object>> chunk, Duration ttl, List<Job> changed) {
+        LocalDateTime now = LocalDateTime.now();
+        // Last occurrence of an id within a chunk wins
+        Map<String, Job> incoming = new LinkedHashMap<>();
+        SimHashLsh chunkHashes = new SimHashLsh(jobDuplicateIndex.getMaxDistance());
+        int expired = 0;
+        int duplicates = 0;
+        for (Map<String, Object> jobMap : chunk) {
+            Job job = toJob(jobMap);
+            job.setPostedAt(postedAt(jobMap, now));
+            job.setExpiresAt(job.getPostedAt().plus(ttl));
+            if (!job.getExpiresAt().isAfter(now)) {
+                // Already past its TTL: writing it would only hand the purger more work
+                expired++;
+                continue;
+            }
+            if (dedupEnabled) {
+                long simHash = SimHash.of(job);
+                String scope = SimHash.scope(job);
+                // Ids already known keep their row; only a new id can be a mirror of another posting
+                if (!incoming.containsKey(job.getId()) && !jobDuplicateIndex.contains(job.getId())) {
+                    String canonicalId = chunkHashes.nearest(scope, simHash);
+                    if (canonicalId == null) {
+                        canonicalId = jobDuplicateIndex.nearest(scope, simHash);
+                    }
+                    if (canonicalId != null) {
+                        duplicates++;
+                        Job canonical = incoming.get(canonicalId);
+                        if (canonical != null) {
+                            fillGaps(canonical, job);
+                            applyDerivedFields(canonical);
+                        }
+                        continue;
+                    }
+                }
+                chunkHashes.put(job.getId(), scope, simHash);
+            }
+            incoming.put(job.getId(), job);
+        }
+        incoming.values().forEach(job -> job.setContentHash(JobFingerprint.of(job, objectMapper)));
+
+        // Rows whose stored fingerprint matches are left alone, so updated_at only moves on real changes
+        Map<String, String> storedHashes = jobBatchRepository.findContentHashesByIds(incoming.keySet());
+
+        int inserted = 0;
+        int updated = 0;
+        int unchanged = 0;
+        for (Job job : incoming.values()) {
+            if (!storedHashes.containsKey(job.getId())) {
+                inserted++;
+                changed.add(job);
+            } else if (job.getContentHash().equals(storedHashes.get(job.getId()))) {
+                unchanged++;
+            } else {
+                updated++;
+                changed.add(job);
+            }
+        }
+
+        jobBatchRepository.upsertAll(changed, now);
+        JobSyncResult result = new JobSyncResult(chunk.size(), inserted, updated, unchanged);
+        result.setExpired(expired);
+        result.setDuplicates(duplicates);
+        return result;
+    }
+
+    // An explicit postedAt (ISO-8601) wins; otherwise "3 days ago" is read back from now;
+    // a job that says neither counts as posted when first seen
+    private static LocalDateTime postedAt(Map<String, Object> jobMap, LocalDateTime now) {
+        if (jobMap.get("postedAt") instanceof String text) {
+            try {
+                return OffsetDateTime.parse(text).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            } catch (DateTimeParseException e) {
+                try {
+                    return LocalDateTime.parse(text);
+                } catch (DateTimeParseException ignored) {
+                    // fall through to postedAgo
+                }
+            }
+        }
+        Object postedAgo = jobMap.get("postedAgo");
+        Duration age = PostedAgo.parse(postedAgo instanceof String text ? text : null);
+        return age != null ? now.minus(age) : now;
+    }
+
+    private Job toJob(Map<String, Object> jobMap) {
+        Job job = new Job();
+
+        // Map keys exactly as they appear in the n8n Output image
+        String id = text(jobMap.get("id"));
+        String title = text(jobMap.get("title"));
+        String company = text(jobMap.get("company"));
+        String location = text(jobMap.get("location"));
+        String link = text(jobMap.get("link")); // n8n uses 'link'
+
+        job.setTitle(title);
+        job.setCompany(company);
+        job.setLocation(location);
+
+        // Use correct setters from Job.java model
+        job.setApplyUrl(link);
+        job.setId(id != null ? id : JobFingerprint.syntheticId(job));
+        if (jobMap.get("postedAgo") instanceof String postedAgo) {
+            job.setPostedAgo(postedAgo);
+        }
+
+        // Structured fields are taken when the workflow provides them; otherwise they stay empty
+        job.setBenefits(stringList(jobMap.get("benefits")));
+        job.setQualifications(stringList(jobMap.get("qualifications")));
+        if (jobMap.get("fullDescription") instanceof Map<?, ?> description) {
+            try {
+                job.setFullDescription(objectMapper.convertValue(description, JobDescription.class));
+            } catch (IllegalArgumentException e) {
+                // One malformed description must not fail the chunk's transaction; the job is kept without it
+                log.warn("Ignoring malformed fullDescription of job {}: {}", job.getId(), e.getMessage());
+            }
+        }
+
+        // Same shape as the frontend's Job type: jobType plus salary { amount, currency, unit }
+        job.setJobType(text(jobMap.get("jobType")));
+        if (jobMap.get("salary") instanceof Map<?, ?> salary) {
+            if (salary.get("amount") instanceof Number amount) {
+                job.setSalaryAmount(amount.intValue());
+            }
+            job.setSalaryCurrency(text(salary.get("currency")));
+            job.setSalaryUnit(text(salary.get("unit")));
+        }
+        applyDerivedFields(job);
+        return job;
+    }
+
+    // Filter columns computed from the raw fields, so /api/jobs filters are plain indexed comparisons
+    public void applyDerivedFields(Job job) {
+        job.setSalaryAnnual(salaryNormalizer.annualize(job.getSalaryAmount(), job.getSalaryCurrency(), job.getSalaryUnit()));
+        String workMode = job.getFullDescription() != null ? job.getFullDescription().getWorkMode() : null;
+        job.setRemote(JobTextAnalyzer.mentionsRemote(job.getLocation(), job.getJobType(), workMode));
+        job.setLocationKey(gazetteer.resolveKey(job.getLocation()));
     }
 
-    public List<Job> getAllJobs() {
-        return jobRepository.findAll();
+    // The first copy of a posting stays canonical; a later copy only supplies what it lacked
+    private static void fillGaps(Job canonical, Job duplicate) {
+        if (canonical.getApplyUrl() == null) {
+            canonical.setApplyUrl(duplicate.getApplyUrl());
+        }
+        if (canonical.getJobType() == null) {
+            canonical.setJobType(duplicate.getJobType());
+        }
+        if (canonical.getSalaryAmount() == null && duplicate.getSalaryAmount() != null) {
+            canonical.setSalaryAmount(duplicate.getSalaryAmount());
+            canonical.setSalaryCurrency(duplicate.getSalaryCurrency());
+            canonical.setSalaryUnit(duplicate.getSalaryUnit());
+        }
+        if (canonical.getFullDescription() == null) {
+            canonical.setFullDescription(duplicate.getFullDescription());
+        }
+        if (canonical.getBenefits().isEmpty()) {
+            canonical.setBenefits(duplicate.getBenefits());
+        }
+        if (canonical.getQualifications().isEmpty()) {
+            canonical.setQualifications(duplicate.getQualifications());
+        }
+    }
+
+    // Feeds are loosely typed: a scalar is taken as its text, anything else (a nested object or list) as missing,
+    // so one odd field never throws out of toJob and fails the whole chunk
+    private static String text(Object value) {
+        if (value instanceof String text) {
+            return text;
+        }
+        return value instanceof Number || value instanceof Boolean ? String.valueOf(value) : null;
+    }
+
+    private static List<String> stringList(Object value) {
+        List<String> values = new ArrayList<>();
+        if (value instanceof List<?> items) {
+            for (Object item : items) {
+                if (item != null) {
+                    values.add(item.toString());
+                }
+            }
+        }
+        return values;
     }
 
-    public void syncJobsFromMaps(List<Map<String, Object>> jobMaps) {
-        for (Map<String, Object> jobMap : jobMaps) {
-            Job job = new Job();
-            
-            // Map keys exactly as they appear in the n8n Output image
-            String id = (String) jobMap.get("id");
-            String title = (String) jobMap.get("title");
-            String company = (String) jobMap.get("company");
-            String location = (String) jobMap.get("location");
-            String link = (String) jobMap.get("link"); // n8n uses 'link'
+    private static final class CardList {
 
-            job.setId(id != null ? id : UUID.randomUUID().toString());
-            job.setTitle(title);
-            job.setCompany(company);
-            job.setLocation(location);
-            
-            // Use correct setters from Job.java model
-            job.setApplyUrl(link); 
-            
-            // Initialize JSON fields as empty strings to prevent Frontend parsing errors
-            job.setBenefits("[]");
-            job.setQualifications("[]");
-            job.setFullDescription("{}");
+        private final long version;
+        private final List<JobCardResponse> cards;
 
-            jobRepository.save(job);
+        CardList(long version, List<JobCardResponse> cards) {
+            this.version = version;
+            this.cards = cards;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.job.demo.job.service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the relative posting age job boards display ("3 days ago",
+ * "30+ days ago", "2h", "yesterday") as a Duration. Months count as 30 days
+ * and years as 365; the result only has to be good enough for expiry.
+ */
+final class PostedAgo {
+
+    private static final Pattern AMOUNT_AND_UNIT = Pattern.compile(
+            "(?:(\\d+)\\+?|\\ban?\\b)\\s*(minutes?|mins?|m|hours?|hrs?|h|days?|d|weeks?|wks?|w|months?|mos?|years?|yrs?|y)\\b");
+    private static final Pattern JUST_NOW = Pattern.compile("\\b(just now|moments? ago|today|few (?:minutes|hours) ago)\\b");
+
+    private PostedAgo() {}
+
+    // Null when the text does not say how old the posting is
+    static Duration parse(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String value = text.toLowerCase(Locale.ROOT).strip();
+        if (JUST_NOW.matcher(value).find()) {
+            return Duration.ZERO;
+        }
+        if (value.contains("yesterday")) {
+            return Duration.ofDays(1);
+        }
+        Matcher matcher = AMOUNT_AND_UNIT.matcher(value);
+        if (!matcher.find()) {
+            return null;
+        }
+        long amount = matcher.group(1) != null ? Long.parseLong(matcher.group(1)) : 1;
+        String unit = matcher.group(2);
+        if (unit.startsWith("mo")) {
+            return Duration.ofDays(30 * amount);
+        }
+        switch (unit.charAt(0)) {
+            case 'm': return Duration.ofMinutes(amount);
+            case 'h': return Duration.ofHours(amount);
+            case 'd': return Duration.ofDays(amount);
+            case 'w': return Duration.ofDays(7 * amount);
+            default: return Duration.ofDays(365 * amount);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.job.demo.job.service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts a posted salary (amount, currency, pay period) into a yearly
+ * figure in the base currency, using the locally stored FX table, so salary
+ * filters can compare one indexed number.
+ */
+@Component
+public class SalaryNormalizer {
+
+    private final Map<String, Double> ratesToBase = new HashMap<>();
+    private final String baseCurrency;
+
+    public SalaryNormalizer(@Value("${jobs.salary.fx-rates:classpath:fx-rates.properties}") Resource fxRates,
+                            @Value("${jobs.salary.base-currency:INR}") String baseCurrency) {
+        this.baseCurrency = baseCurrency.toUpperCase(Locale.ROOT);
+        Properties table = new Properties();
+        // Read as UTF-8 so currency symbols like ₹ survive
+        try (Reader in = new InputStreamReader(fxRates.getInputStream(), StandardCharsets.UTF_8)) {
+            table.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read FX table " + fxRates, e);
+        }
+        String baseRate = table.getProperty(this.baseCurrency);
+        if (baseRate == null) {
+            throw new IllegalStateException("Base currency " + this.baseCurrency + " is missing from " + fxRates);
+        }
+        double base = Double.parseDouble(baseRate);
+        for (String currency : table.stringPropertyNames()) {
+            ratesToBase.put(currency.toUpperCase(Locale.ROOT), Double.parseDouble(table.getProperty(currency)) / base);
+        }
+    }
+
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    // Null when amount or pay period is missing or not recognised; no currency means the base currency
+    public Long annualize(Integer amount, String currency, String unit) {
+        if (amount == null || amount <= 0 || unit == null) {
+            return null;
+        }
+        Double rate = ratesToBase.get(currency != null ? currency.trim().toUpperCase(Locale.ROOT) : baseCurrency);
+        Integer periodsPerYear = periodsPerYear(unit);
+        if (rate == null || periodsPerYear == null) {
+            return null;
+        }
+        return Math.round(amount * rate * periodsPerYear);
+    }
+
+    private static Integer periodsPerYear(String unit) {
+        switch (unit.trim().toUpperCase(Locale.ROOT)) {
+            case "HOUR": return 2_080;
+            case "DAY": return 260;
+            case "WEEK": return 52;
+            case "MONTH": return 12;
+            case "YEAR": return 1;
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.job.demo.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain-JDBC access to the skills table for SkillDictionary: a streamed
+ * scan to warm it, and one batched insert for the names it has never seen.
+ */
+@Repository
+public class SkillBatchRepository {
+
+    private static final String SELECT_ALL = "SELECT id, name FROM skills";
+
+    // The unique key on name turns a concurrent insert of the same skill into a no-op instead of an error
+    private static final String INSERT_IF_ABSENT = "INSERT IGNORE INTO skills (name) VALUES (?)";
+
+    private final JdbcTemplate jdbc;
+
+    public SkillBatchRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public void forEach(BiConsumer<Long, String> consumer) {
+        jdbc.query(SELECT_ALL, rs -> {
+            consumer.accept(rs.getLong("id"), rs.getString("name"));
+        });
+    }
+
+    // One JDBC batch; rewriteBatchedStatements=true turns it into a multi-row INSERT
+    public void insertIfAbsent(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(names.size());
+        for (String name : names) {
+            rows.add(new Object[] {name});
+        }
+        jdbc.batchUpdate(INSERT_IF_ABSENT, rows);
+    }
+}
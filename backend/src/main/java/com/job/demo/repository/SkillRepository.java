@@ -4,8 +4,12 @@ package com.job.demo.repository;
 
 import com.job.demo.model.Skill;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SkillRepository extends JpaRepository<Skill, Long> {
     Optional<Skill> findByName(String name);
-}
\ No newline at end of file
+
+    List<Skill> findByNameIn(Collection<String> names);
+}
@@ -7,17 +7,32 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.UUID;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
 @Service
 public class FileStorageService {
 
+    private static final Logger log = LoggerFactory.getLogger(FileStorageService.class);
+
     private final Path uploadDir;
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
 
-    public FileStorageService() {
+    public FileStorageService(ObservationRegistry observationRegistry, MeterRegistry meterRegistry,
+                              @Value("${app.uploads.dir:uploads}") String uploadDir) {
+        this.observationRegistry = observationRegistry;
+        this.meterRegistry = meterRegistry;
         // Defines the root upload directory
-        this.uploadDir = Paths.get("uploads").toAbsolutePath().normalize();
+        this.uploadDir = Paths.get(uploadDir).toAbsolutePath().normalize();
         try {
             Files.createDirectories(this.uploadDir);
             Files.createDirectories(this.uploadDir.resolve("profile-pictures"));
@@ -28,6 +43,17 @@ public class FileStorageService {
     }
 
     public String storeFile(MultipartFile file, String subDir) {
+        DistributionSummary.builder("uploads.size")
+                .baseUnit("bytes")
+                .tag("kind", subDir)
+                .register(meterRegistry)
+                .record(file.getSize());
+        return Observation.createNotStarted("uploads.store", observationRegistry)
+                .lowCardinalityKeyValue("kind", subDir)
+                .observe(() -> copyToDisk(file, subDir));
+    }
+
+    private String copyToDisk(MultipartFile file, String subDir) {
         try {
             String originalFileName = file.getOriginalFilename();
             // Generate unique filename to prevent overwriting
@@ -56,7 +82,7 @@ public class FileStorageService {
             Path filePath = this.uploadDir.resolve(subDir).resolve(filename);
             Files.deleteIfExists(filePath);
         } catch (IOException e) {
-            System.err.println("Warning: Could not delete old file: " + fileUrl);
+            log.warn("Could not delete old file {}", fileUrl, e);
         }
     }
 }
\ No newline at end of file
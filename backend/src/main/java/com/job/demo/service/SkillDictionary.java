@@ -0,0 +1,110 @@
+package com.job.demo.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.job.demo.model.Skill;
+import com.job.demo.repository.SkillBatchRepository;
+import com.job.demo.repository.SkillRepository;
+
+/**
+ * In-memory map from case-normalized skill name to skill id, warmed from
+ * the skills table at startup. Resolving a profile's skills costs no query
+ * when every name is known, and at most three (lookup, batched
+ * insert-if-absent, re-read) however many are new. Skills are never
+ * renamed or deleted, so the map only grows; names another instance added
+ * are picked up on their first miss.
+ */
+@Component
+public class SkillDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillDictionary.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SkillRepository skillRepository;
+    private final SkillBatchRepository skillBatchRepository;
+    private final ConcurrentMap<String, Long> idByKey = new ConcurrentHashMap<>();
+
+    public SkillDictionary(SkillRepository skillRepository, SkillBatchRepository skillBatchRepository) {
+        this.skillRepository = skillRepository;
+        this.skillBatchRepository = skillBatchRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        skillBatchRepository.forEach((id, name) -> idByKey.putIfAbsent(key(name), id));
+        log.info("Loaded {} skills into the skill dictionary", idByKey.size());
+    }
+
+    public int size() {
+        return idByKey.size();
+    }
+
+    // Managed references for the given names, creating the skills that do not exist yet.
+    // "react", "React " and "REACT" are one skill; a new skill keeps the first spelling it was given.
+    public Set<Skill> resolve(Collection<String> names) {
+        Map<String, String> wanted = new LinkedHashMap<>();
+        for (String name : names) {
+            String display = displayName(name);
+            if (!display.isEmpty()) {
+                wanted.putIfAbsent(key(display), display);
+            }
+        }
+
+        List<String> missing = new ArrayList<>();
+        wanted.forEach((key, display) -> {
+            if (!idByKey.containsKey(key)) {
+                missing.add(display);
+            }
+        });
+        if (!missing.isEmpty()) {
+            load(missing);
+            List<String> absent = missing.stream().filter(name -> !idByKey.containsKey(key(name))).toList();
+            if (!absent.isEmpty()) {
+                skillBatchRepository.insertIfAbsent(absent);
+                load(absent);
+            }
+        }
+
+        Set<Skill> skills = new HashSet<>();
+        for (String key : wanted.keySet()) {
+            Long id = idByKey.get(key);
+            if (id == null) {
+                throw new IllegalStateException("Skill " + wanted.get(key) + " could not be created");
+            }
+            // A reference is a proxy carrying the id; nothing is read until a field other than the id is used
+            skills.add(skillRepository.getReferenceById(id));
+        }
+        return skills;
+    }
+
+    private void load(Collection<String> names) {
+        for (Skill skill : skillRepository.findByNameIn(names)) {
+            idByKey.putIfAbsent(key(skill.getName()), skill.getId());
+        }
+    }
+
+    static String displayName(String name) {
+        return name == null ? "" : WHITESPACE.matcher(name.strip()).replaceAll(" ");
+    }
+
+    static String key(String name) {
+        return displayName(name).toLowerCase(Locale.ROOT);
+    }
+}
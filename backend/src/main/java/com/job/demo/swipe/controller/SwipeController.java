@@ -0,0 +1,69 @@
+package com.job.demo.swipe.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.job.demo.swipe.dto.SwipeAcceptedResponse;
+import com.job.demo.swipe.dto.SwipeBufferStats;
+import com.job.demo.swipe.dto.SwipeRequest;
+import com.job.demo.swipe.service.SwipeService;
+import com.job.demo.swipe.service.SwipeWriteBehindBuffer;
+
+@RestController
+@RequestMapping("/api/swipes")
+public class SwipeController {
+
+    private final SwipeService swipeService;
+    private final SwipeWriteBehindBuffer swipeWriteBehindBuffer;
+    private final long retryAfterSeconds;
+
+    public SwipeController(SwipeService swipeService,
+                           SwipeWriteBehindBuffer swipeWriteBehindBuffer,
+                           @Value("${swipes.write-behind.retry-after-seconds:2}") long retryAfterSeconds) {
+        this.swipeService = swipeService;
+        this.swipeWriteBehindBuffer = swipeWriteBehindBuffer;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    // ✅ Record one swipe; 202 once queued for writing
+    @PostMapping
+    public ResponseEntity<?> recordSwipe(Authentication authentication, @RequestBody SwipeRequest request) {
+        return record(authentication, List.of(request));
+    }
+
+    // ✅ Record a client-side batch of swipes in one request
+    @PostMapping("/batch")
+    public ResponseEntity<?> recordSwipes(Authentication authentication, @RequestBody List<SwipeRequest> requests) {
+        return record(authentication, requests);
+    }
+
+    @GetMapping("/stats")
+    public SwipeBufferStats getBufferStats() {
+        return swipeWriteBehindBuffer.getStats();
+    }
+
+    // A full buffer answers 503 + Retry-After with how many leading events were still taken
+    private ResponseEntity<?> record(Authentication authentication, List<SwipeRequest> requests) {
+        try {
+            SwipeAcceptedResponse result = swipeService.record(authentication.getName(), requests);
+            if (result.getRejected() > 0) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                        .body(result);
+            }
+            return ResponseEntity.accepted().body(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
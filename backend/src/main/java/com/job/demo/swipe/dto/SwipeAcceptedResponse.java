@@ -0,0 +1,31 @@
+package com.job.demo.swipe.dto;
+
+public class SwipeAcceptedResponse {
+
+    // Events are accepted in request order, so a client retries from index `accepted` onwards
+    private int accepted;
+    private int rejected;
+
+    public SwipeAcceptedResponse() {}
+
+    public SwipeAcceptedResponse(int accepted, int rejected) {
+        this.accepted = accepted;
+        this.rejected = rejected;
+    }
+
+    public int getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(int accepted) {
+        this.accepted = accepted;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+}
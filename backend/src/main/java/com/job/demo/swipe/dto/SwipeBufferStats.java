@@ -0,0 +1,40 @@
+package com.job.demo.swipe.dto;
+
+public class SwipeBufferStats {
+
+    private int queued;
+    private int capacity;
+    private long accepted;
+    private long rejected;
+    private long written;
+    private long batches;
+    private long dropped;
+
+    public SwipeBufferStats() {}
+
+    public SwipeBufferStats(int queued, int capacity, long accepted, long rejected,
+                            long written, long batches, long dropped) {
+        this.queued = queued;
+        this.capacity = capacity;
+        this.accepted = accepted;
+        this.rejected = rejected;
+        this.written = written;
+        this.batches = batches;
+        this.dropped = dropped;
+    }
+
+    public int getQueued() { return queued; }
+    public void setQueued(int queued) { this.queued = queued; }
+    public int getCapacity() { return capacity; }
+    public void setCapacity(int capacity) { this.capacity = capacity; }
+    public long getAccepted() { return accepted; }
+    public void setAccepted(long accepted) { this.accepted = accepted; }
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+    public long getWritten() { return written; }
+    public void setWritten(long written) { this.written = written; }
+    public long getBatches() { return batches; }
+    public void setBatches(long batches) { this.batches = batches; }
+    public long getDropped() { return dropped; }
+    public void setDropped(long dropped) { this.dropped = dropped; }
+}
@@ -0,0 +1,38 @@
+package com.job.demo.swipe.dto;
+
+import java.time.Instant;
+
+import com.job.demo.swipe.model.SwipeDirection;
+
+public class SwipeRequest {
+
+    private String jobId;
+    private SwipeDirection direction;
+
+    // When the swipe happened on the device; the server time is used if absent
+    private Instant swipedAt;
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public SwipeDirection getDirection() {
+        return direction;
+    }
+
+    public void setDirection(SwipeDirection direction) {
+        this.direction = direction;
+    }
+
+    public Instant getSwipedAt() {
+        return swipedAt;
+    }
+
+    public void setSwipedAt(Instant swipedAt) {
+        this.swipedAt = swipedAt;
+    }
+}
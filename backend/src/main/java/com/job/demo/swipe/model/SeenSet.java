@@ -0,0 +1,69 @@
+package com.job.demo.swipe.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// Serialized ScalableBloomFilter of the job ids a user has swiped on
+@Entity
+@Table(name = "seen_sets")
+public class SeenSet {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] filter;
+
+    @Column(nullable = false)
+    private int entries;
+
+    // Swipes after this instant may be missing from the filter and are replayed on load
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+
+    public SeenSet() {}
+
+    public SeenSet(Long userId, byte[] filter, int entries, LocalDateTime snapshotAt) {
+        this.userId = userId;
+        this.filter = filter;
+        this.entries = entries;
+        this.snapshotAt = snapshotAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public byte[] getFilter() {
+        return filter;
+    }
+
+    public void setFilter(byte[] filter) {
+        this.filter = filter;
+    }
+
+    public int getEntries() {
+        return entries;
+    }
+
+    public void setEntries(int entries) {
+        this.entries = entries;
+    }
+
+    public LocalDateTime getSnapshotAt() {
+        return snapshotAt;
+    }
+
+    public void setSnapshotAt(LocalDateTime snapshotAt) {
+        this.snapshotAt = snapshotAt;
+    }
+}
@@ -0,0 +1,86 @@
+package com.job.demo.swipe.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+// One left/right decision by a user on a job. Rows are written in batches by SwipeWriteBehindBuffer.
+@Entity
+@Table(name = "swipes",
+        indexes = @Index(name = "idx_swipes_user_job", columnList = "user_id, job_id"))
+public class Swipe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "job_id", nullable = false)
+    private String jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private SwipeDirection direction;
+
+    @Column(name = "swiped_at", nullable = false)
+    private LocalDateTime swipedAt;
+
+    public Swipe() {}
+
+    public Swipe(Long userId, String jobId, SwipeDirection direction, LocalDateTime swipedAt) {
+        this.userId = userId;
+        this.jobId = jobId;
+        this.direction = direction;
+        this.swipedAt = swipedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public SwipeDirection getDirection() {
+        return direction;
+    }
+
+    public void setDirection(SwipeDirection direction) {
+        this.direction = direction;
+    }
+
+    public LocalDateTime getSwipedAt() {
+        return swipedAt;
+    }
+
+    public void setSwipedAt(LocalDateTime swipedAt) {
+        this.swipedAt = swipedAt;
+    }
+}
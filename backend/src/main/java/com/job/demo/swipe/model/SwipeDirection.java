@@ -0,0 +1,23 @@
+package com.job.demo.swipe.model;
+
+import java.util.Locale;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+public enum SwipeDirection {
+    LEFT,
+    RIGHT;
+
+    // The client sends "left" / "right"
+    @JsonCreator
+    public static SwipeDirection fromValue(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Swipe direction is required");
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown swipe direction: " + value);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.job.demo.swipe.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.job.demo.swipe.model.SeenSet;
+
+public interface SeenSetRepository extends JpaRepository<SeenSet, Long> {
+}
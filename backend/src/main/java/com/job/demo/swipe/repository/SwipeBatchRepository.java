@@ -0,0 +1,42 @@
+package com.job.demo.swipe.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.job.demo.swipe.model.Swipe;
+
+/**
+ * Batched inserts for the write-behind buffer. IDENTITY ids make Hibernate
+ * flush every persist() on its own, so batches go through plain JDBC.
+ */
+@Repository
+public class SwipeBatchRepository {
+
+    private static final String INSERT =
+            "INSERT INTO swipes (user_id, job_id, direction, swiped_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbc;
+
+    public SwipeBatchRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    // One JDBC batch; rewriteBatchedStatements=true turns it into multi-row INSERTs
+    public void insertAll(List<Swipe> swipes) {
+        if (swipes.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(swipes.size());
+        for (Swipe swipe : swipes) {
+            rows.add(new Object[] {
+                    swipe.getUserId(), swipe.getJobId(), swipe.getDirection().name(),
+                    Timestamp.valueOf(swipe.getSwipedAt())
+            });
+        }
+        jdbc.batchUpdate(INSERT, rows);
+    }
+}
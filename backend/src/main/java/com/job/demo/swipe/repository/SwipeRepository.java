@@ -0,0 +1,20 @@
+package com.job.demo.swipe.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.job.demo.swipe.model.Swipe;
+
+public interface SwipeRepository extends JpaRepository<Swipe, Long> {
+
+    // Rebuilds or tops up a seen-set; both walk idx_swipes_user_job for the user's rows
+    @Query("SELECT s.jobId FROM Swipe s WHERE s.userId = :userId")
+    List<String> findJobIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT s.jobId FROM Swipe s WHERE s.userId = :userId AND s.swipedAt > :since")
+    List<String> findJobIdsSwipedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,176 @@
+package com.job.demo.swipe.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scalable Bloom filter (Almeida et al.): a chain of plain Bloom filters,
+ * each twice the capacity and half the false-positive rate of the one
+ * before, so the set can keep growing while the overall false-positive
+ * rate stays below twice the first stage's. No false negatives: a job that
+ * was added always tests as seen.
+ *
+ * Methods are synchronized; one instance belongs to one user, so there is
+ * no real contention.
+ */
+public final class ScalableBloomFilter {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final double LN2_SQUARED = Math.log(2) * Math.log(2);
+
+    private final int initialCapacity;
+    private final double initialFalsePositiveRate;
+    private final List<Stage> stages = new ArrayList<>();
+
+    public ScalableBloomFilter(int initialCapacity, double initialFalsePositiveRate) {
+        this.initialCapacity = initialCapacity;
+        this.initialFalsePositiveRate = initialFalsePositiveRate;
+        stages.add(Stage.sized(initialCapacity, initialFalsePositiveRate));
+    }
+
+    private ScalableBloomFilter(int initialCapacity, double initialFalsePositiveRate, List<Stage> stages) {
+        this.initialCapacity = initialCapacity;
+        this.initialFalsePositiveRate = initialFalsePositiveRate;
+        this.stages.addAll(stages);
+    }
+
+    // Returns false when the value was (probably) already present
+    public synchronized boolean add(String value) {
+        long hash = hash64(value);
+        if (mightContain(hash)) {
+            return false;
+        }
+        Stage last = stages.get(stages.size() - 1);
+        if (last.count >= last.capacity) {
+            int next = stages.size();
+            last = Stage.sized(initialCapacity << Math.min(next, 20), initialFalsePositiveRate / (1L << next));
+            stages.add(last);
+        }
+        last.add(hash);
+        return true;
+    }
+
+    public synchronized boolean mightContain(String value) {
+        return mightContain(hash64(value));
+    }
+
+    public synchronized int size() {
+        return stages.stream().mapToInt(s -> s.count).sum();
+    }
+
+    public synchronized int sizeInBytes() {
+        return stages.stream().mapToInt(s -> s.bits.length * Long.BYTES).sum();
+    }
+
+    // Layout: version, initial capacity, initial rate, stage count, then per stage
+    // capacity, count, hash count, word count and the raw bit words
+    public synchronized byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 4 + 8 + 4 + stages.stream()
+                .mapToInt(s -> 16 + s.bits.length * Long.BYTES).sum());
+        buffer.put(FORMAT_VERSION).putInt(initialCapacity).putDouble(initialFalsePositiveRate).putInt(stages.size());
+        for (Stage stage : stages) {
+            buffer.putInt(stage.capacity).putInt(stage.count).putInt(stage.hashes).putInt(stage.bits.length);
+            for (long word : stage.bits) {
+                buffer.putLong(word);
+            }
+        }
+        return buffer.array();
+    }
+
+    public static ScalableBloomFilter fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported seen-set format " + version);
+        }
+        int initialCapacity = buffer.getInt();
+        double initialRate = buffer.getDouble();
+        int stageCount = buffer.getInt();
+        List<Stage> stages = new ArrayList<>(stageCount);
+        for (int i = 0; i < stageCount; i++) {
+            int capacity = buffer.getInt();
+            int count = buffer.getInt();
+            int hashes = buffer.getInt();
+            long[] bits = new long[buffer.getInt()];
+            for (int w = 0; w < bits.length; w++) {
+                bits[w] = buffer.getLong();
+            }
+            stages.add(new Stage(capacity, hashes, bits, count));
+        }
+        return new ScalableBloomFilter(initialCapacity, initialRate, stages);
+    }
+
+    private boolean mightContain(long hash) {
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 64-bit FNV-1a over UTF-8 with a final avalanche; stable across JVMs, which persistence needs
+    static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Stage {
+
+        private final int capacity;
+        private final int hashes;
+        private final long[] bits;
+        private final long bitCount;
+        private int count;
+
+        private Stage(int capacity, int hashes, long[] bits, int count) {
+            this.capacity = capacity;
+            this.hashes = hashes;
+            this.bits = bits;
+            this.bitCount = (long) bits.length * Long.SIZE;
+            this.count = count;
+        }
+
+        // Optimal sizing for n entries at rate p: m = -n ln p / (ln 2)^2, k = (m / n) ln 2
+        static Stage sized(int capacity, double falsePositiveRate) {
+            long m = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / LN2_SQUARED);
+            int words = (int) Math.max(1, (m + Long.SIZE - 1) / Long.SIZE);
+            int k = Math.max(1, (int) Math.round((double) words * Long.SIZE / capacity * Math.log(2)));
+            return new Stage(capacity, k, new long[words], 0);
+        }
+
+        // Double hashing (Kirsch-Mitzenmacher): k probe positions from one 64-bit hash
+        void add(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashes; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                bits[(int) (bit >>> 6)] |= 1L << bit;
+            }
+            count++;
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashes; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
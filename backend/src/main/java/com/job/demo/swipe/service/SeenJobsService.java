@@ -0,0 +1,175 @@
+package com.job.demo.swipe.service;
+
+import java.lang.ref.SoftReference;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.job.demo.swipe.model.SeenSet;
+import com.job.demo.swipe.repository.SeenSetRepository;
+import com.job.demo.swipe.repository.SwipeRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Per-user "already swiped" sets used to hide jobs from feed pages without
+ * an anti-join against the swipes table.
+ *
+ * A set is loaded on first use from its stored snapshot plus any swipes
+ * newer than that snapshot, then kept in memory behind a SoftReference in a
+ * bounded LRU, so idle users are dropped first and the GC can reclaim the
+ * rest under pressure. Sets with unsaved changes are held strongly until
+ * the periodic flush writes them back.
+ */
+@Service
+public class SeenJobsService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeenJobsService.class);
+
+    private static final Predicate<String> NOTHING_SEEN = id -> false;
+
+    private final SeenSetRepository seenSetRepository;
+    private final SwipeRepository swipeRepository;
+    private final UserIdResolver userIdResolver;
+    private final int initialCapacity;
+    private final double falsePositiveRate;
+
+    private final Map<Long, SoftReference<ScalableBloomFilter>> cache;
+    private final Map<Long, ScalableBloomFilter> dirty = new ConcurrentHashMap<>();
+
+    public SeenJobsService(SeenSetRepository seenSetRepository,
+                           SwipeRepository swipeRepository,
+                           UserIdResolver userIdResolver,
+                           @Value("${swipes.seen.initial-capacity:1000}") int initialCapacity,
+                           @Value("${swipes.seen.false-positive-rate:0.01}") double falsePositiveRate,
+                           @Value("${swipes.seen.max-cached-users:10000}") int maxCachedUsers) {
+        this.seenSetRepository = seenSetRepository;
+        this.swipeRepository = swipeRepository;
+        this.userIdResolver = userIdResolver;
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, SoftReference<ScalableBloomFilter>> eldest) {
+                return size() > maxCachedUsers;
+            }
+        };
+    }
+
+    public void markSeen(Long userId, Collection<String> jobIds) {
+        ScalableBloomFilter filter = filterFor(userId);
+        boolean changed = false;
+        for (String jobId : jobIds) {
+            changed |= filter.add(jobId);
+        }
+        if (changed) {
+            dirty.put(userId, filter);
+        }
+    }
+
+    // Matches jobs the user has swiped on. False positives (about the configured
+    // rate) hide a few unseen jobs; a swiped job is never shown again.
+    public Predicate<String> seenBy(String email) {
+        if (email == null) {
+            return NOTHING_SEEN;
+        }
+        return userIdResolver.find(email)
+                .<Predicate<String>>map(userId -> filterFor(userId)::mightContain)
+                .orElse(NOTHING_SEEN);
+    }
+
+    private ScalableBloomFilter filterFor(Long userId) {
+        ScalableBloomFilter filter = cached(userId);
+        if (filter != null) {
+            return filter;
+        }
+        ScalableBloomFilter loaded = load(userId);
+        synchronized (cache) {
+            // Another request may have loaded the same user meanwhile; keep a single instance
+            filter = cached(userId);
+            if (filter != null) {
+                return filter;
+            }
+            cache.put(userId, new SoftReference<>(loaded));
+            return loaded;
+        }
+    }
+
+    private ScalableBloomFilter cached(Long userId) {
+        ScalableBloomFilter pending = dirty.get(userId);
+        if (pending != null) {
+            return pending;
+        }
+        SoftReference<ScalableBloomFilter> ref;
+        synchronized (cache) {
+            ref = cache.get(userId);
+        }
+        return ref != null ? ref.get() : null;
+    }
+
+    private ScalableBloomFilter load(Long userId) {
+        Optional<SeenSet> stored = seenSetRepository.findById(userId);
+        ScalableBloomFilter filter = stored.map(this::decode).orElse(null);
+        List<String> replay;
+        if (filter != null) {
+            // Swipe times may lag the server clock by up to the skew SwipeService allows
+            replay = swipeRepository.findJobIdsSwipedSince(userId,
+                    stored.get().getSnapshotAt().minus(SwipeService.MAX_CLOCK_SKEW));
+        } else {
+            filter = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+            replay = swipeRepository.findJobIdsByUserId(userId);
+        }
+
+        boolean changed = false;
+        for (String jobId : replay) {
+            changed |= filter.add(jobId);
+        }
+        if (changed) {
+            dirty.put(userId, filter);
+        }
+        return filter;
+    }
+
+    private ScalableBloomFilter decode(SeenSet stored) {
+        try {
+            return ScalableBloomFilter.fromBytes(stored.getFilter());
+        } catch (RuntimeException e) {
+            log.warn("Discarding unreadable seen-set for user {}; rebuilding from swipes", stored.getUserId(), e);
+            return null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${swipes.seen.flush-interval:PT30S}")
+    public void flushDirty() {
+        for (Long userId : List.copyOf(dirty.keySet())) {
+            // Removed before serializing: a swipe landing meanwhile marks the set dirty again
+            ScalableBloomFilter filter = dirty.remove(userId);
+            if (filter == null) {
+                continue;
+            }
+            try {
+                seenSetRepository.save(new SeenSet(userId, filter.toBytes(), filter.size(), LocalDateTime.now()));
+            } catch (DataAccessException e) {
+                dirty.putIfAbsent(userId, filter);
+                log.warn("Could not save seen-set for user {}; will retry", userId, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushDirty();
+    }
+}
@@ -0,0 +1,75 @@
+package com.job.demo.swipe.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.job.demo.swipe.dto.SwipeAcceptedResponse;
+import com.job.demo.swipe.dto.SwipeRequest;
+import com.job.demo.swipe.model.Swipe;
+
+// Validates swipe events and hands them to the write-behind buffer; no DB write on the request path
+@Service
+public class SwipeService {
+
+    // Device clocks drift; timestamps further out than this are replaced by the server time
+    static final Duration MAX_CLOCK_SKEW = Duration.ofDays(1);
+
+    private final SwipeWriteBehindBuffer buffer;
+    private final SeenJobsService seenJobsService;
+    private final UserIdResolver userIdResolver;
+    private final int maxBatchSize;
+
+    public SwipeService(SwipeWriteBehindBuffer buffer,
+                        SeenJobsService seenJobsService,
+                        UserIdResolver userIdResolver,
+                        @Value("${swipes.max-batch-request:100}") int maxBatchSize) {
+        this.buffer = buffer;
+        this.seenJobsService = seenJobsService;
+        this.userIdResolver = userIdResolver;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public SwipeAcceptedResponse record(String email, List<SwipeRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("No swipes in request");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " swipes per request");
+        }
+        Long userId = userIdResolver.find(email)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        Instant now = Instant.now();
+        List<Swipe> swipes = new ArrayList<>(requests.size());
+        for (SwipeRequest request : requests) {
+            swipes.add(toSwipe(userId, request, now));
+        }
+        int taken = buffer.offerAll(swipes);
+        // Only what was queued counts as seen; rejected events come back in the client's retry
+        if (taken > 0) {
+            seenJobsService.markSeen(userId, swipes.subList(0, taken).stream().map(Swipe::getJobId).toList());
+        }
+        return new SwipeAcceptedResponse(taken, swipes.size() - taken);
+    }
+
+    private static Swipe toSwipe(Long userId, SwipeRequest request, Instant now) {
+        if (request.getJobId() == null || request.getJobId().isBlank()) {
+            throw new IllegalArgumentException("jobId is required");
+        }
+        if (request.getDirection() == null) {
+            throw new IllegalArgumentException("direction is required");
+        }
+        Instant swipedAt = request.getSwipedAt();
+        if (swipedAt == null || Duration.between(swipedAt, now).abs().compareTo(MAX_CLOCK_SKEW) > 0) {
+            swipedAt = now;
+        }
+        return new Swipe(userId, request.getJobId(), request.getDirection(),
+                LocalDateTime.ofInstant(swipedAt, ZoneId.systemDefault()));
+    }
+}
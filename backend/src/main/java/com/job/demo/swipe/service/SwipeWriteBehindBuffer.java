@@ -0,0 +1,196 @@
+package com.job.demo.swipe.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.job.demo.config.BackgroundThreads;
+import com.job.demo.swipe.dto.SwipeBufferStats;
+import com.job.demo.swipe.model.Swipe;
+import com.job.demo.swipe.repository.SwipeBatchRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bounded queue between the swipe endpoint and the swipes table. Requests
+ * only enqueue; one background writer drains the queue into batched
+ * INSERTs. A full queue is reported back to the caller instead of
+ * blocking, and whatever is still queued is written on shutdown; what
+ * the shutdown timeout cuts off is counted as dropped.
+ */
+@Component
+public class SwipeWriteBehindBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(SwipeWriteBehindBuffer.class);
+
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+    private static final long IDLE_POLL_MS = 500;
+
+    private final SwipeBatchRepository swipeBatchRepository;
+    private final BlockingQueue<Swipe> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final Duration shutdownTimeout;
+    private final ExecutorService writer;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean running = true;
+
+    public SwipeWriteBehindBuffer(SwipeBatchRepository swipeBatchRepository,
+                                  BackgroundThreads backgroundThreads,
+                                  @Value("${swipes.write-behind.capacity:10000}") int capacity,
+                                  @Value("${swipes.write-behind.batch-size:500}") int batchSize,
+                                  @Value("${swipes.write-behind.linger:PT0.2S}") Duration linger,
+                                  @Value("${swipes.write-behind.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.swipeBatchRepository = swipeBatchRepository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.writer = backgroundThreads.singleThread("swipe-writer");
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.execute(this::drainLoop);
+    }
+
+    // Never blocks: returns how many leading events fit, the rest are for the caller to retry
+    public int offerAll(List<Swipe> swipes) {
+        int taken = 0;
+        if (running) {
+            for (Swipe swipe : swipes) {
+                if (!queue.offer(swipe)) {
+                    break;
+                }
+                taken++;
+            }
+        }
+        accepted.add(taken);
+        rejected.add(swipes.size() - taken);
+        return taken;
+    }
+
+    public SwipeBufferStats getStats() {
+        return new SwipeBufferStats(queue.size(), capacity, accepted.sum(), rejected.sum(),
+                written.sum(), batches.sum(), dropped.sum());
+    }
+
+    private void drainLoop() {
+        List<Swipe> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Swipe first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                // Only shutdown() interrupts, once its timeout has run out: the batch in hand gets one last
+                // write without waiting, and what is still queued is counted as lost instead of vanishing
+                Thread.currentThread().interrupt();
+                writeOnce(batch);
+                abandonQueued();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Waits up to the linger time so a trickle of swipes still goes out as one batch
+    private void fill(List<Swipe> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            Swipe next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<Swipe> batch) throws InterruptedException {
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                swipeBatchRepository.insertAll(batch);
+                written.add(batch.size());
+                batches.increment();
+                return;
+            } catch (DataAccessException e) {
+                if (attempt == MAX_WRITE_ATTEMPTS) {
+                    dropped.add(batch.size());
+                    log.error("Dropping {} swipes after {} failed writes", batch.size(), attempt, e);
+                    return;
+                }
+                log.warn("Swipe batch write failed (attempt {}), retrying", attempt, e);
+                Thread.sleep(250L * attempt);
+            } catch (RuntimeException e) {
+                // Not a database hiccup, so a retry would fail the same way; the writer thread must
+                // survive it though, or the queue fills and every swipe is refused until restart
+                dropped.add(batch.size());
+                log.error("Dropping {} swipes after an unexpected write failure", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    private void writeOnce(List<Swipe> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            swipeBatchRepository.insertAll(batch);
+            written.add(batch.size());
+            batches.increment();
+        } catch (RuntimeException e) {
+            dropped.add(batch.size());
+            log.error("Dropping {} swipes: the writer was interrupted and its last write failed", batch.size(), e);
+        }
+    }
+
+    private void abandonQueued() {
+        List<Swipe> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            dropped.add(rest.size());
+            log.error("Dropping {} queued swipes: the writer was interrupted before writing them", rest.size());
+        }
+    }
+
+    // Stops intake, then gives the writer a bounded amount of time to empty the queue
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.shutdown();
+        if (!writer.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Swipe writer did not finish within {}; {} swipes not written", shutdownTimeout, queue.size());
+            writer.shutdownNow();
+        }
+    }
+}
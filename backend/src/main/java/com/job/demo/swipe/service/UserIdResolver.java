@@ -0,0 +1,32 @@
+package com.job.demo.swipe.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.job.demo.model.User;
+import com.job.demo.repository.UserRepository;
+
+// Emails do not change, so the session principal -> user id lookup is done once per user
+@Component
+public class UserIdResolver {
+
+    private final UserRepository userRepository;
+    private final Map<String, Long> userIds = new ConcurrentHashMap<>();
+
+    public UserIdResolver(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public Optional<Long> find(String email) {
+        Long cached = userIds.get(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Long> id = userRepository.findByEmail(email).map(User::getId);
+        id.ifPresent(value -> userIds.put(email, value));
+        return id;
+    }
+}
@@ -0,0 +1,44 @@
+package com.job.demo.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class BackgroundThreadsTest {
+
+    @Test
+    void platformThreadsAreNamedDaemons() {
+        Thread thread = new BackgroundThreads(false).factory("swipe-writer").newThread(() -> {});
+
+        assertEquals("swipe-writer-1", thread.getName());
+        assertTrue(thread.isDaemon());
+    }
+
+    // The build targets Java 17, where the switch must be a safe no-op rather than a startup failure
+    @Test
+    void virtualSwitchFallsBackToPlatformThreadsBeforeJava21() throws Exception {
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+        BackgroundThreads threads = new ThreadingConfig().backgroundThreads(environment);
+        boolean java21 = Runtime.version().feature() >= 21;
+
+        assertEquals(java21, threads.isVirtual());
+        if (!java21) {
+            Thread thread = threads.factory("feed-queue").newThread(() -> {});
+            assertEquals("feed-queue-1", thread.getName());
+            assertTrue(thread.isDaemon());
+        }
+
+        Executor executor = threads.perTask("load");
+        CountDownLatch ran = new CountDownLatch(1);
+        executor.execute(ran::countDown);
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertFalse(new ThreadingConfig().backgroundThreads(new MockEnvironment()).isVirtual());
+    }
+}
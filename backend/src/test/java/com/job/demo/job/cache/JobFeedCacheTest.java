@@ -0,0 +1,78 @@
+package com.job.demo.job.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.demo.job.cache.JobFeedCache.CachedBody;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JobFeedCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobFeedCache cache = new JobFeedCache(new ObjectMapper(), meterRegistry,
+            DataSize.ofMegabytes(1), 100, false, DataSize.ofKilobytes(1));
+
+    @Test
+    void concurrentMissesOnOneKeyShareASingleLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService readers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CachedBody>> bodies = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                bodies.add(readers.submit(() -> cache.get("all:1", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return List.of("job-1", "job-2");
+                })));
+            }
+            // Let every reader reach the cache before the one load finishes
+            Thread.sleep(200);
+            release.countDown();
+
+            CachedBody first = bodies.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<CachedBody> body : bodies) {
+                assertSame(first, body.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().getMisses());
+        assertEquals(7, cache.getStats().getHits());
+    }
+
+    @Test
+    void publishesItsStatsAsMeters() {
+        cache.get("all:1", () -> List.of("job-1"));
+        cache.get("all:1", () -> List.of("job-1"));
+        cache.invalidateAll();
+
+        assertEquals(1.0, meterRegistry.get("jobs.feed.cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("jobs.feed.cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("jobs.feed.cache.invalidations").functionCounter().count());
+        assertEquals(0.0, meterRegistry.get("jobs.feed.cache.entries").gauge().value());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
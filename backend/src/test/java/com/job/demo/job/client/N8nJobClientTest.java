@@ -0,0 +1,65 @@
+package com.job.demo.job.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.demo.config.BackgroundThreads;
+
+import io.micrometer.observation.ObservationRegistry;
+
+class N8nJobClientTest {
+
+    private final N8nJobClient client = new N8nJobClient(new ObjectMapper(), new BackgroundThreads(false),
+            ObservationRegistry.NOOP, Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+    @Test
+    void splitsArrayIntoBoundedChunks() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 7; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"id\":\"job-").append(i).append("\",\"title\":\"Dev\"}");
+        }
+        json.append(']');
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        int count = client.readChunks(stream(json.toString()), 3, chunk -> chunkSizes.add(chunk.size()));
+
+        assertEquals(7, count);
+        assertEquals(List.of(3, 3, 1), chunkSizes);
+    }
+
+    @Test
+    void acceptsSingleObjectPayload() throws Exception {
+        List<String> ids = new ArrayList<>();
+        int count = client.readChunks(stream("{\"id\":\"only\"}"), 10,
+                chunk -> chunk.forEach(job -> ids.add((String) job.get("id"))));
+
+        assertEquals(1, count);
+        assertEquals(List.of("only"), ids);
+    }
+
+    @Test
+    void skipsNonObjectElementsButRejectsATruncatedArray() throws Exception {
+        List<String> ids = new ArrayList<>();
+        int count = client.readChunks(stream("[{\"id\":\"a\"},null,\"oops\",[{\"id\":\"nested\"}],{\"id\":\"b\"}]"), 10,
+                chunk -> chunk.forEach(job -> ids.add((String) job.get("id"))));
+
+        assertEquals(2, count);
+        assertEquals(List.of("a", "b"), ids);
+        assertThrows(IOException.class, () -> client.readChunks(stream("[{\"id\":\"a\"},"), 10, chunk -> {}));
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
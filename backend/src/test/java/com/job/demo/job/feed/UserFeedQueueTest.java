@@ -0,0 +1,85 @@
+package com.job.demo.job.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.job.demo.job.dto.JobCardResponse;
+import com.job.demo.job.index.JobMatchIndex;
+import com.job.demo.job.index.MatchProfile;
+import com.job.demo.job.model.Job;
+
+class UserFeedQueueTest {
+
+    private final MatchProfile profile = MatchProfile.of(List.of("Java"), null, false, null, 0, 2);
+
+    @Test
+    void mergeSlotsChangedJobsIntoTheUnservedRemainder() {
+        JobMatchIndex index = new JobMatchIndex();
+        index.upsert(List.of(job("a", "Java Developer"), job("b", "Java Engineer"), job("c", "Office Manager")));
+        index.refresh();
+
+        UserFeedQueue queue = new UserFeedQueue("user@example.com");
+        queue.replace(profile, index.topK(profile, 10, null));
+        assertEquals(List.of("a"), ids(queue.pop(1, id -> false, index::getCard)));
+
+        // "c" becomes a Java job and "b" disappears
+        index.upsert(List.of(job("c", "Java Architect")));
+        index.remove(List.of("b"));
+        index.refresh();
+        queue.merge(Set.of("b", "c"), index.score(profile, List.of("b", "c")), 10);
+
+        assertEquals(List.of("c"), ids(queue.pop(5, id -> false, index::getCard)));
+        assertEquals(0, queue.remaining());
+    }
+
+    @Test
+    void popSkipsHiddenJobs() {
+        JobMatchIndex index = new JobMatchIndex();
+        index.upsert(List.of(job("a", "Java Developer"), job("b", "Java Engineer"), job("c", "Java Lead")));
+        index.refresh();
+
+        UserFeedQueue queue = new UserFeedQueue("user@example.com");
+        queue.replace(profile, index.topK(profile, 10, null));
+
+        assertEquals(2, queue.pop(5, "b"::equals, index::getCard).size());
+    }
+
+    @Test
+    void staysEmptyOnceServedToTheEndUntilJobsChange() {
+        JobMatchIndex index = new JobMatchIndex();
+        index.upsert(List.of(job("a", "Java Developer"), job("b", "Java Engineer")));
+        index.refresh();
+
+        UserFeedQueue queue = new UserFeedQueue("user@example.com");
+        queue.replace(profile, index.topK(profile, 10, null));
+        assertEquals(List.of("a", "b"), ids(queue.pop(5, id -> false, index::getCard)));
+
+        // Served but not swiped: paging on must not hand the same cards back
+        assertFalse(queue.needsRebuild());
+        assertEquals(List.of(), queue.pop(5, id -> false, index::getCard));
+        assertEquals(0, queue.remaining());
+
+        index.upsert(List.of(job("c", "Java Lead")));
+        index.refresh();
+        queue.merge(Set.of("c"), index.score(profile, List.of("c")), 10);
+        assertEquals(List.of("c"), ids(queue.pop(5, id -> false, index::getCard)));
+    }
+
+    private static List<String> ids(List<JobCardResponse> cards) {
+        return cards.stream().map(JobCardResponse::getId).toList();
+    }
+
+    private static Job job(String id, String title) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setCreatedAt(LocalDateTime.now());
+        return job;
+    }
+}
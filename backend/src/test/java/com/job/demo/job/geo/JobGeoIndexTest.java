@@ -0,0 +1,56 @@
+package com.job.demo.job.geo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.ClassPathResource;
+
+import com.job.demo.job.model.Job;
+
+class JobGeoIndexTest {
+
+    private final Gazetteer gazetteer = new Gazetteer(new ClassPathResource("gazetteer.csv"));
+
+    @Test
+    void resolvesSpellingVariantsToOnePlace() {
+        assertEquals("in-bengaluru", gazetteer.resolveKey("Bengaluru, India"));
+        assertEquals("in-bengaluru", gazetteer.resolveKey("Bangalore, KA"));
+        assertEquals("in-bengaluru", gazetteer.resolveKey("Bangalore (Hybrid)"));
+        assertEquals("in-bengaluru", gazetteer.resolveKey("Greater Bangalore Area"));
+        assertEquals("in-gurugram", gazetteer.resolveKey("Gurgaon / Delhi NCR"));
+        assertNull(gazetteer.resolveKey("Remote (India)"));
+    }
+
+    @Test
+    void radiusQueryFindsOnlyPlacesInRange() {
+        JobGeoIndex index = new JobGeoIndex(gazetteer, 0.5);
+        index.upsert(List.of(
+                job("delhi", "New Delhi"),
+                job("noida", "Noida, UP"),
+                job("gurugram", "Gurgaon"),
+                job("mumbai", "Mumbai"),
+                job("remote", "Remote")));
+
+        Place delhi = gazetteer.get("in-delhi");
+        Set<String> near = index.placesWithin(delhi.getLat(), delhi.getLon(), 40);
+
+        assertEquals(Set.of("in-delhi", "in-noida", "in-gurugram"), near);
+        assertEquals(Set.of("delhi", "noida", "gurugram"), index.jobsAt(near));
+
+        index.remove(List.of("noida"));
+        assertEquals(Set.of("in-delhi", "in-gurugram"), index.placesWithin(delhi.getLat(), delhi.getLon(), 40));
+    }
+
+    private Job job(String id, String location) {
+        Job job = new Job();
+        job.setId(id);
+        job.setLocation(location);
+        job.setLocationKey(gazetteer.resolveKey(location));
+        return job;
+    }
+}
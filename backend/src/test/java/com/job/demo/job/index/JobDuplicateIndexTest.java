@@ -0,0 +1,81 @@
+package com.job.demo.job.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.job.demo.job.model.Job;
+import com.job.demo.job.model.JobDescription;
+
+class JobDuplicateIndexTest {
+
+    private static final List<String> DESCRIPTION = List.of(
+            "Build and maintain the React front end of our payments dashboard",
+            "Work closely with designers and backend engineers on new features",
+            "Own performance, accessibility and test coverage of the web app",
+            "Review pull requests and mentor two junior developers");
+
+    @Test
+    void findsRepostWithSmallEditsButNotOtherJobs() {
+        JobDuplicateIndex index = new JobDuplicateIndex(3);
+        index.upsert(List.of(
+                job("original", "Senior React Developer", "Acme Payments", DESCRIPTION),
+                job("other", "Data Analyst", "Acme Payments", List.of("SQL reporting for the finance team"))));
+
+        Job mirror = job("mirror", "Senior React Developer", "ACME payments", DESCRIPTION);
+        Job different = job("new", "Backend Java Engineer", "Globex", List.of("Spring Boot services on Kafka"));
+
+        assertEquals("original", nearest(index, mirror));
+        assertNull(nearest(index, different));
+    }
+
+    @Test
+    void keepsTheSameRoleInAnotherCitySeparate() {
+        JobDuplicateIndex index = new JobDuplicateIndex(3);
+        Job bangalore = job("blr", "Software Engineer", "Google", List.of());
+        bangalore.setLocation("Bangalore");
+        bangalore.setLocationKey("in/bangalore");
+        index.upsert(List.of(bangalore));
+
+        Job hyderabad = job("hyd", "Software Engineer", "Google", List.of());
+        hyderabad.setLocation("Hyderabad");
+        hyderabad.setLocationKey("in/hyderabad");
+        Job alsoBangalore = job("blr-2", "Software Engineer", "Google", List.of());
+        alsoBangalore.setLocation("Bengaluru, Karnataka");
+        alsoBangalore.setLocationKey("in/bangalore");
+
+        assertNull(nearest(index, hyderabad));
+        assertEquals("blr", nearest(index, alsoBangalore));
+    }
+
+    @Test
+    void forgetsRemovedJobs() {
+        JobDuplicateIndex index = new JobDuplicateIndex(3);
+        Job job = job("a", "Senior React Developer", "Acme Payments", DESCRIPTION);
+        index.upsert(List.of(job));
+
+        index.remove(List.of("a"));
+
+        assertNull(nearest(index, job));
+        assertFalse(index.contains("a"));
+    }
+
+    private static String nearest(JobDuplicateIndex index, Job job) {
+        return index.nearest(SimHash.scope(job), SimHash.of(job));
+    }
+
+    private static Job job(String id, String title, String company, List<String> description) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setCompany(company);
+        JobDescription fullDescription = new JobDescription();
+        fullDescription.setDescription(description);
+        job.setFullDescription(fullDescription);
+        return job;
+    }
+}
@@ -0,0 +1,88 @@
+package com.job.demo.job.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.job.demo.config.BackgroundThreads;
+import com.job.demo.job.event.JobIndexesRefreshedEvent;
+import com.job.demo.job.event.JobsChangedEvent;
+import com.job.demo.job.model.Job;
+import com.job.demo.job.repository.JobRepository;
+
+class JobIndexMaintainerTest {
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final CountingIndex index = new CountingIndex();
+    private final BlockingQueue<JobIndexesRefreshedEvent> published = new LinkedBlockingQueue<>();
+
+    @Test
+    void foldsChunksArrivingWithinTheDelayIntoOneRefresh() throws Exception {
+        when(jobRepository.findAllById(anyList())).thenAnswer(call -> List.<Job>of());
+        JobIndexMaintainer maintainer = maintainer(Duration.ofMillis(200));
+
+        maintainer.onJobsChanged(new JobsChangedEvent(List.of("a", "b"), List.of()));
+        maintainer.onJobsChanged(new JobsChangedEvent(List.of("c"), List.of()));
+        maintainer.onJobsChanged(new JobsChangedEvent(List.of(), List.of("b")));
+
+        JobIndexesRefreshedEvent event = published.poll(5, TimeUnit.SECONDS);
+        assertEquals(List.of("a", "c"), event.getUpsertedIds());
+        assertEquals(List.of("b"), event.getRemovedIds());
+        assertEquals(1, index.refreshes.get());
+        assertEquals(List.of("b"), List.copyOf(index.removed));
+        maintainer.shutdown();
+    }
+
+    @Test
+    void changesAfterARefreshScheduleAnotherOne() throws Exception {
+        when(jobRepository.findAllById(anyList())).thenAnswer(call -> List.<Job>of());
+        JobIndexMaintainer maintainer = maintainer(Duration.ofMillis(10));
+
+        maintainer.onJobsChanged(new JobsChangedEvent(List.of("a"), List.of()));
+        assertEquals(List.of("a"), published.poll(5, TimeUnit.SECONDS).getUpsertedIds());
+        maintainer.onJobsChanged(new JobsChangedEvent(List.of("b"), List.of()));
+        assertEquals(List.of("b"), published.poll(5, TimeUnit.SECONDS).getUpsertedIds());
+
+        assertEquals(2, index.refreshes.get());
+        assertTrue(published.isEmpty());
+        maintainer.shutdown();
+    }
+
+    private JobIndexMaintainer maintainer(Duration refreshDelay) {
+        return new JobIndexMaintainer(jobRepository, List.of(index),
+                event -> published.add((JobIndexesRefreshedEvent) event),
+                new BackgroundThreads(false), 100, refreshDelay);
+    }
+
+    private static final class CountingIndex implements JobIndex {
+
+        private final AtomicInteger refreshes = new AtomicInteger();
+        private volatile Collection<String> removed = List.of();
+
+        @Override
+        public void upsert(Collection<Job> jobs) {
+        }
+
+        @Override
+        public void remove(Collection<String> ids) {
+            removed = ids;
+        }
+
+        @Override
+        public void refresh() {
+            refreshes.incrementAndGet();
+        }
+    }
+}
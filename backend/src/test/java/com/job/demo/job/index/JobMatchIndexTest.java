@@ -0,0 +1,87 @@
+package com.job.demo.job.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.job.demo.job.dto.RankCursor;
+import com.job.demo.job.index.JobMatchIndex.RankedJob;
+import com.job.demo.job.model.Job;
+
+class JobMatchIndexTest {
+
+    @Test
+    void ranksSkillMatchesFirstAndPrefersRemoteForRemoteOnlyProfiles() {
+        JobMatchIndex index = new JobMatchIndex();
+        index.upsert(List.of(
+                job("java-onsite", "Java Backend Engineer", "Pune"),
+                job("java-remote", "Java Developer", "Remote"),
+                job("designer", "Product Designer", "Remote")));
+        index.refresh();
+
+        MatchProfile profile = MatchProfile.of(List.of("Java"), "Backend Engineer", true, null, 0, 4);
+        List<RankedJob> ranked = index.topK(profile, 3, null);
+
+        assertEquals("java-remote", ranked.get(0).getCard().getId());
+        assertEquals("java-onsite", ranked.get(1).getCard().getId());
+    }
+
+    @Test
+    void cursorPagingVisitsEveryJobOnce() {
+        JobMatchIndex index = new JobMatchIndex();
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            jobs.add(job("job-" + i, i % 2 == 0 ? "React Developer" : "Data Analyst", "Bengaluru"));
+        }
+        index.upsert(jobs);
+        index.refresh();
+
+        MatchProfile profile = MatchProfile.of(List.of("React"), null, false, "Bengaluru", 0, 2);
+        Set<String> seen = new HashSet<>();
+        RankCursor cursor = null;
+        List<RankedJob> page;
+        do {
+            page = index.topK(profile, 7, cursor);
+            page.forEach(r -> seen.add(r.getCard().getId()));
+            if (!page.isEmpty()) {
+                RankedJob last = page.get(page.size() - 1);
+                cursor = RankCursor.decode(new RankCursor(last.getScore(), last.getCard().getId()).encode());
+            }
+        } while (page.size() == 7);
+
+        assertEquals(25, seen.size());
+    }
+
+    @Test
+    void leavesOutJobsPastTheirExpiryBeforeTheyArePurged() {
+        JobMatchIndex index = new JobMatchIndex();
+        Job expired = job("expired", "Java Developer", "Pune");
+        expired.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        Job live = job("live", "Java Developer", "Pune");
+        live.setExpiresAt(LocalDateTime.now().plusDays(1));
+        index.upsert(List.of(expired, live));
+        index.refresh();
+
+        MatchProfile profile = MatchProfile.of(List.of("Java"), null, false, null, 0, 2);
+
+        assertEquals(List.of("live"), index.topK(profile, 10, null).stream().map(r -> r.getCard().getId()).toList());
+        assertEquals(List.of("live"), index.score(profile, List.of("expired", "live")).stream().map(r -> r.getCard().getId()).toList());
+        assertNull(index.getCard("expired"));
+    }
+
+    private static Job job(String id, String title, String location) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setLocation(location);
+        job.setCreatedAt(LocalDateTime.now());
+        return job;
+    }
+}
@@ -0,0 +1,53 @@
+package com.job.demo.job.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.job.demo.job.index.JobSearchIndex.ScoredCard;
+import com.job.demo.job.index.JobSearchIndex.SearchResult;
+import com.job.demo.job.model.Job;
+
+class JobSearchIndexTest {
+
+    @Test
+    void matchesTrailingPrefixAndRanksTitleHitsFirst() {
+        JobSearchIndex index = new JobSearchIndex();
+        index.upsert(List.of(
+                job("react-dev", "React Developer", "Acme"),
+                job("frontend", "Frontend Engineer", "Reactor Labs"),
+                job("analyst", "Data Analyst", "Acme")));
+
+        SearchResult result = index.search("reac", 10);
+        List<String> ids = result.getHits().stream().map(h -> h.getCard().getId()).toList();
+
+        assertEquals(List.of("react-dev", "frontend"), ids);
+        assertEquals(0, index.search("reac ", 10).getTotalMatches());
+    }
+
+    @Test
+    void reflectsUpdatesAndRemovals() {
+        JobSearchIndex index = new JobSearchIndex();
+        index.upsert(List.of(job("a", "Java Developer", "Acme"), job("b", "Go Developer", "Acme")));
+
+        index.upsert(List.of(job("a", "Kotlin Developer", "Acme")));
+        index.remove(List.of("b"));
+
+        assertEquals(0, index.search("java ", 10).getTotalMatches());
+        List<ScoredCard> hits = index.search("developer", 10).getHits();
+        assertEquals(1, hits.size());
+        assertEquals("a", hits.get(0).getCard().getId());
+        assertTrue(hits.get(0).getScore() > 0);
+    }
+
+    private static Job job(String id, String title, String company) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setCompany(company);
+        return job;
+    }
+}
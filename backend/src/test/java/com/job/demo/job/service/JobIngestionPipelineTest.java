@@ -0,0 +1,85 @@
+package com.job.demo.job.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.job.demo.config.BackgroundThreads;
+import com.job.demo.job.client.JobSourceProperties.Source;
+import com.job.demo.job.dto.IngestionRun;
+import com.job.demo.job.dto.JobSyncResult;
+import com.job.demo.job.dto.SourceRun;
+
+class JobIngestionPipelineTest {
+
+    @Test
+    void fetchesSourcesConcurrentlyAndWritesEveryChunk() throws Exception {
+        List<String> written = new ArrayList<>();
+        JobIngestionPipeline pipeline = new JobIngestionPipeline(
+                (source, chunkSize, sink) -> {
+                    Thread.sleep(300);
+                    for (int i = 0; i < 3; i++) {
+                        sink.accept(List.of(Map.of("id", source.getName() + "-" + i)));
+                    }
+                    return 3;
+                },
+                (source, chunk) -> {
+                    chunk.forEach(job -> written.add((String) job.get("id")));
+                    return new JobSyncResult(chunk.size(), chunk.size(), 0, 0);
+                },
+                10, List.of(source("a", Duration.ofSeconds(5)), source("b", Duration.ofSeconds(5))),
+                2, 1, new BackgroundThreads(false));
+
+        long started = System.nanoTime();
+        JobSyncResult total = pipeline.run(run());
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        assertEquals(6, total.getInserted());
+        assertEquals(6, written.size());
+        // Bounded by the slowest source, not the sum of both
+        assertTrue(elapsedMs < 550, "took " + elapsedMs + " ms");
+        pipeline.shutdown();
+    }
+
+    @Test
+    void slowSourceTimesOutWithoutHoldingBackTheOthers() throws Exception {
+        JobIngestionPipeline pipeline = new JobIngestionPipeline(
+                (source, chunkSize, sink) -> {
+                    if (source.getName().equals("stuck")) {
+                        Thread.sleep(60_000);
+                    }
+                    sink.accept(List.of(Map.of("id", "ok-1")));
+                    return 1;
+                },
+                (source, chunk) -> new JobSyncResult(chunk.size(), chunk.size(), 0, 0),
+                10, List.of(source("stuck", Duration.ofMillis(200)), source("fast", Duration.ofSeconds(5))),
+                2, 4, new BackgroundThreads(false));
+
+        IngestionRun run = run();
+        JobSyncResult total = pipeline.run(run);
+
+        assertEquals(1, total.getInserted());
+        assertEquals(SourceRun.State.TIMED_OUT, run.getSources().get(0).getState());
+        assertEquals(SourceRun.State.SUCCEEDED, run.getSources().get(1).getState());
+        pipeline.shutdown();
+    }
+
+    private static IngestionRun run() {
+        return new IngestionRun("test", "test", Instant.now());
+    }
+
+    private static Source source(String name, Duration timeout) {
+        Source source = new Source();
+        source.setName(name);
+        source.setUrl("http://localhost/" + name);
+        source.setTimeout(timeout);
+        return source;
+    }
+}
@@ -0,0 +1,31 @@
+package com.job.demo.job.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+
+import com.job.demo.config.BackgroundThreads;
+import com.job.demo.job.dto.IngestionRun;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JobIngestionServiceTest {
+
+    @Test
+    void aRejectedRunDoesNotBlockLaterTriggers() {
+        JobIngestionService service = new JobIngestionService(mock(JobIngestionPipeline.class),
+                new BackgroundThreads(false), new SimpleMeterRegistry(), false);
+        service.shutdown();
+
+        IngestionRun first = service.trigger("manual");
+        IngestionRun second = service.trigger("manual");
+
+        assertEquals(IngestionRun.State.FAILED, first.getState());
+        assertNotEquals(first.getRunId(), second.getRunId());
+        assertNull(service.getStatus().getCurrentRun());
+        assertEquals(second, service.getStatus().getLastRun());
+    }
+}
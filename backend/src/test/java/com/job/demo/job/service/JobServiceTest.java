@@ -0,0 +1,71 @@
+package com.job.demo.job.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.demo.job.dto.JobSyncResult;
+import com.job.demo.job.geo.Gazetteer;
+import com.job.demo.job.index.JobDuplicateIndex;
+import com.job.demo.job.model.Job;
+import com.job.demo.job.repository.JobBatchRepository;
+import com.job.demo.job.repository.JobRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+class JobServiceTest {
+
+    private final JobBatchRepository jobBatchRepository = mock(JobBatchRepository.class);
+    private final JobService jobService = new JobService(mock(JobRepository.class),
+            jobBatchRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            event -> { },
+            new ObjectMapper(),
+            new SalaryNormalizer(new ClassPathResource("fx-rates.properties"), "INR"),
+            new Gazetteer(new ClassPathResource("gazetteer.csv")),
+            ObservationRegistry.NOOP,
+            new SimpleMeterRegistry(),
+            new JobDuplicateIndex(3),
+            false,
+            20, 100, 500,
+            Duration.ofDays(30));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void oddlyTypedFieldsDoNotFailTheChunk() {
+        when(jobBatchRepository.findContentHashesByIds(anyCollection())).thenReturn(Map.of());
+
+        JobSyncResult result = jobService.syncChunk(List.of(
+                Map.of("id", "a", "title", "Backend Engineer", "salary", Map.of("amount", 90000, "currency", 1)),
+                Map.of("id", 42, "title", "Data Engineer", "jobType", Map.of("name", "Full-time"),
+                        "salary", Map.of("unit", List.of("year"))),
+                Map.of("id", "c", "title", "Frontend Engineer", "jobType", "Contract")));
+
+        assertEquals(3, result.getInserted());
+        ArgumentCaptor<List<Job>> written = ArgumentCaptor.forClass(List.class);
+        verify(jobBatchRepository).upsertAll(written.capture(), any(LocalDateTime.class));
+        List<Job> jobs = written.getValue();
+        assertEquals(List.of("a", "42", "c"), jobs.stream().map(Job::getId).toList());
+        assertEquals("1", jobs.get(0).getSalaryCurrency());
+        assertNull(jobs.get(1).getJobType());
+        assertNull(jobs.get(1).getSalaryUnit());
+        assertEquals("Contract", jobs.get(2).getJobType());
+    }
+}
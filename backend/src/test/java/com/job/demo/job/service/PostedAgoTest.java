@@ -0,0 +1,28 @@
+package com.job.demo.job.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class PostedAgoTest {
+
+    @Test
+    void readsRelativeAges() {
+        assertEquals(Duration.ofDays(3), PostedAgo.parse("3 days ago"));
+        assertEquals(Duration.ofDays(30), PostedAgo.parse("Posted 30+ days ago"));
+        assertEquals(Duration.ofHours(2), PostedAgo.parse("2h"));
+        assertEquals(Duration.ofDays(7), PostedAgo.parse("a week ago"));
+        assertEquals(Duration.ofDays(1), PostedAgo.parse("Yesterday"));
+        assertEquals(Duration.ZERO, PostedAgo.parse("Just now"));
+    }
+
+    @Test
+    void returnsNullWhenAgeIsUnknown() {
+        assertNull(PostedAgo.parse(null));
+        assertNull(PostedAgo.parse(" "));
+        assertNull(PostedAgo.parse("Actively hiring"));
+    }
+}
@@ -0,0 +1,28 @@
+package com.job.demo.job.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.ClassPathResource;
+
+class SalaryNormalizerTest {
+
+    private final SalaryNormalizer normalizer = new SalaryNormalizer(new ClassPathResource("fx-rates.properties"), "INR");
+
+    @Test
+    void convertsPeriodAndCurrencyToYearlyBaseAmount() {
+        assertEquals(1_200_000L, normalizer.annualize(100_000, "INR", "month"));
+        assertEquals(1_200_000L, normalizer.annualize(100_000, null, "MONTH"));
+        assertEquals(8_330_000L, normalizer.annualize(100_000, "usd", "year"));
+        assertEquals(8_330_000L, normalizer.annualize(100_000, "$", "year"));
+    }
+
+    @Test
+    void returnsNullWhenSalaryCannotBeCompared() {
+        assertNull(normalizer.annualize(null, "INR", "year"));
+        assertNull(normalizer.annualize(50_000, "XYZ", "year"));
+        assertNull(normalizer.annualize(50_000, "INR", "fortnight"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.job.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.job.demo.model.Skill;
+import com.job.demo.repository.SkillBatchRepository;
+import com.job.demo.repository.SkillRepository;
+
+class SkillDictionaryTest {
+
+    private final SkillRepository skillRepository = mock(SkillRepository.class);
+    private final SkillBatchRepository skillBatchRepository = mock(SkillBatchRepository.class);
+    private final SkillDictionary dictionary = new SkillDictionary(skillRepository, skillBatchRepository);
+
+    SkillDictionaryTest() {
+        when(skillRepository.getReferenceById(anyLong())).thenAnswer(call -> skill(call.getArgument(0), null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void resolvesKnownNamesCaseInsensitivelyWithoutQueries() {
+        doAnswer(call -> {
+            BiConsumer<Long, String> consumer = call.getArgument(0);
+            consumer.accept(1L, "React");
+            consumer.accept(2L, "Spring Boot");
+            return null;
+        }).when(skillBatchRepository).forEach(any(BiConsumer.class));
+        dictionary.warm();
+
+        Set<Skill> skills = dictionary.resolve(List.of(" react", "REACT", "spring   boot"));
+
+        assertEquals(Set.of(1L, 2L), ids(skills));
+        verify(skillRepository, never()).findByNameIn(any());
+        verify(skillBatchRepository, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    void insertsOnlyNamesMissingFromTheDatabaseThenServesThemFromMemory() {
+        when(skillRepository.findByNameIn(List.of("Docker", "Kafka"))).thenReturn(List.of(skill(3L, "docker")));
+        when(skillRepository.findByNameIn(List.of("Kafka"))).thenReturn(List.of(skill(4L, "Kafka")));
+
+        assertEquals(Set.of(3L, 4L), ids(dictionary.resolve(List.of("Docker", "Kafka"))));
+        assertEquals(Set.of(3L, 4L), ids(dictionary.resolve(List.of("kafka", "DOCKER"))));
+
+        verify(skillBatchRepository, times(1)).insertIfAbsent(List.of("Kafka"));
+        verify(skillRepository, times(2)).findByNameIn(any());
+    }
+
+    private static Skill skill(long id, String name) {
+        Skill skill = new Skill(name);
+        skill.setId(id);
+        return skill;
+    }
+
+    private static Set<Long> ids(Set<Skill> skills) {
+        return skills.stream().map(Skill::getId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,45 @@
+package com.job.demo.swipe.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ScalableBloomFilterTest {
+
+    @Test
+    void growsPastItsInitialCapacityWithoutFalseNegatives() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+        for (int i = 0; i < 5_000; i++) {
+            filter.add("job-" + i);
+        }
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(filter.mightContain("job-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        // Compound rate approaches twice the first stage's 1%; allow some sampling noise
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void survivesASerializationRoundTrip() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(10, 0.01);
+        for (int i = 0; i < 50; i++) {
+            filter.add("job-" + i);
+        }
+
+        ScalableBloomFilter restored = ScalableBloomFilter.fromBytes(filter.toBytes());
+
+        assertEquals(filter.size(), restored.size());
+        for (int i = 0; i < 50; i++) {
+            assertTrue(restored.mightContain("job-" + i));
+        }
+        assertTrue(restored.add("job-new"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.job.demo.swipe.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import com.job.demo.config.BackgroundThreads;
+import com.job.demo.swipe.model.Swipe;
+import com.job.demo.swipe.model.SwipeDirection;
+import com.job.demo.swipe.repository.SwipeBatchRepository;
+
+class SwipeWriteBehindBufferTest {
+
+    @Test
+    void rejectsTheTailOfABatchWhenTheQueueIsFull() throws Exception {
+        RecordingRepository repository = new RecordingRepository();
+        SwipeWriteBehindBuffer buffer = new SwipeWriteBehindBuffer(repository, new BackgroundThreads(false), 3, 10, Duration.ZERO, Duration.ofSeconds(5));
+
+        assertEquals(3, buffer.offerAll(swipes(5)));
+        assertEquals(2, buffer.getStats().getRejected());
+
+        buffer.start();
+        buffer.shutdown();
+        assertEquals(3, repository.rows.size());
+    }
+
+    @Test
+    void flushesQueuedSwipesInBatchesOnShutdown() throws Exception {
+        RecordingRepository repository = new RecordingRepository();
+        SwipeWriteBehindBuffer buffer = new SwipeWriteBehindBuffer(repository, new BackgroundThreads(false), 1000, 100, Duration.ofMillis(50), Duration.ofSeconds(5));
+
+        assertEquals(250, buffer.offerAll(swipes(250)));
+        buffer.start();
+        buffer.shutdown();
+
+        assertEquals(250, repository.rows.size());
+        assertEquals(3, buffer.getStats().getBatches());
+    }
+
+    @Test
+    void keepsWritingAfterABatchFailsUnexpectedly() throws Exception {
+        RecordingRepository repository = new RecordingRepository();
+        repository.failures = 1;
+        SwipeWriteBehindBuffer buffer = new SwipeWriteBehindBuffer(repository, new BackgroundThreads(false), 100, 2, Duration.ZERO, Duration.ofSeconds(5));
+
+        assertEquals(2, buffer.offerAll(swipes(2)));
+        buffer.start();
+        assertEquals(3, buffer.offerAll(swipes(3)));
+        buffer.shutdown();
+
+        assertEquals(2, buffer.getStats().getDropped());
+        assertEquals(3, repository.rows.size());
+    }
+
+    @Test
+    void countsSwipesLeftBehindWhenTheWriterIsInterrupted() throws Exception {
+        RecordingRepository repository = new RecordingRepository();
+        repository.transientFailures = 1;
+        SwipeWriteBehindBuffer buffer = new SwipeWriteBehindBuffer(repository, new BackgroundThreads(false), 100, 2, Duration.ZERO, Duration.ofMillis(50));
+
+        assertEquals(5, buffer.offerAll(swipes(5)));
+        buffer.start();
+        // The first write fails and the writer backs off for 250 ms, longer than the shutdown timeout
+        buffer.shutdown();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (buffer.getStats().getWritten() + buffer.getStats().getDropped() < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, repository.rows.size());
+        assertEquals(3, buffer.getStats().getDropped());
+    }
+
+    private static List<Swipe> swipes(int count) {
+        List<Swipe> swipes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            swipes.add(new Swipe(1L, "job-" + i, SwipeDirection.RIGHT, LocalDateTime.now()));
+        }
+        return swipes;
+    }
+
+    private static final class RecordingRepository extends SwipeBatchRepository {
+
+        private final List<Swipe> rows = new CopyOnWriteArrayList<>();
+        private volatile int failures;
+        private volatile int transientFailures;
+
+        RecordingRepository() {
+            super(null);
+        }
+
+        @Override
+        public void insertAll(List<Swipe> swipes) {
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("mapping bug");
+            }
+            if (transientFailures > 0) {
+                transientFailures--;
+                throw new TransientDataAccessResourceException("connection reset");
+            }
+            rows.addAll(swipes);
+        }
+    }
+}
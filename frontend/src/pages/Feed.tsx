@@ -29,11 +29,13 @@ interface JobFullDescription {
   requirements: string[];
 }
 
+// List endpoints return cards without the detail fields; GET /api/jobs/{id} returns them
+// as structured JSON (older backends sent them as JSON strings, which are still parsed)
 interface ApiJob
   extends Omit<Job, "benefits" | "qualifications" | "fullDescription"> {
-  benefits: string;
-  qualifications: string;
-  fullDescription: string;
+  benefits?: string[] | string;
+  qualifications?: string[] | string;
+  fullDescription?: JobFullDescription | string;
 }
 
 /* ---------------------------------------------------------
@@ -44,7 +46,8 @@ interface ApiJob
  * If the DB contains plain text instead of JSON, it catches the error 
  * and uses the fallback value to prevent the app from crashing.
  */
-const safeJsonParse = <T,>(value: string | T, fallback: T, fieldName: string): T => {
+const safeJsonParse = <T,>(value: string | T | undefined, fallback: T, fieldName: string): T => {
+  if (value === undefined || value === null) return fallback;
   if (typeof value !== "string") return value;
   if (!value || value === "null") return fallback;
   try {
@@ -55,6 +58,49 @@ const safeJsonParse = <T,>(value: string | T, fallback: T, fieldName: string): T
   }
 };
 
+interface ApiJobPage {
+  items: ApiJob[];
+  nextCursor: string | null;
+}
+
+interface ApiFeedQueuePage {
+  items: ApiJob[];
+  remaining: number;
+}
+
+const PAGE_SIZE = 5;
+
+// The feed queue has no cursor of its own; this marks "more is available" in nextCursor state
+const QUEUE_CURSOR = "queue";
+
+// Swipes are queued locally and sent to POST /api/swipes/batch in small batches
+interface PendingSwipe {
+  jobId: string;
+  direction: "left" | "right";
+  swipedAt: string;
+}
+
+const SWIPE_BATCH_SIZE = 10;
+const SWIPE_FLUSH_DELAY_MS = 2000;
+
+const parseJob = (job: ApiJob, index: number): Job => ({
+  ...job,
+  benefits: safeJsonParse<string[]>(job.benefits, [], `job[${index}].benefits`),
+  qualifications: safeJsonParse<string[]>(job.qualifications, [], `job[${index}].qualifications`),
+  fullDescription: safeJsonParse<JobFullDescription>(
+    job.fullDescription,
+    {
+      category: "",
+      stipend: "",
+      duration: "",
+      workMode: "",
+      description: [],
+      requirements: [],
+    },
+    `job[${index}].fullDescription`
+  ),
+});
+
 /* ---------------------------------------------------------
    FEED COMPONENT
 --------------------------------------------------------- */
@@ -63,7 +109,7 @@ const Feed = () => {
 
   // State Management
   const [jobs, setJobs] = useState<Job[]>([]);
-  const [displayedJobs, setDisplayedJobs] = useState<Job[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [isLoading, setIsLoading] = useState(false);
   const [selectedJob, setSelectedJob] = useState<Job | null>(null);
   const [modalOpen, setModalOpen] = useState(false);
@@ -72,6 +118,65 @@ const Feed = () => {
   // Infinite Scroll Hook
   const { ref: loadMoreRef, inView } = useInView({ threshold: 0.6 });
   const mountedRef = useRef(false);
+  const useQueueRef = useRef(true);
+
+  // Swipe outbox
+  const pendingSwipesRef = useRef<PendingSwipe[]>([]);
+  const swipeTimerRef = useRef<ReturnType<typeof setTimeout> | null>(null);
+
+  /* ---------------------------------------------------------
+     FETCH ONE PAGE FROM THE KEYSET-PAGINATED API
+  --------------------------------------------------------- */
+  // Logged-in users read their precomputed, profile-ranked queue; each call returns the next page
+  const fetchQueuePage = async () => {
+    const response = await fetch(`${API_URL}/api/jobs/feed/next?limit=${PAGE_SIZE}`, {
+      credentials: "include",
+    });
+    if (response.status === 401) return null;
+    if (!response.ok) {
+      console.error("❌ [HTTP Error] Feed queue fetch failed with status:", response.status);
+      throw new Error(`Failed to fetch feed: ${response.status}`);
+    }
+    const page = (await response.json()) as ApiFeedQueuePage;
+    return {
+      items: page.items.map(parseJob),
+      nextCursor: page.remaining > 0 ? QUEUE_CURSOR : null,
+    };
+  };
+
+  const fetchPage = async (cursor: string | null) => {
+    if (useQueueRef.current) {
+      const page = await fetchQueuePage();
+      if (page) return page;
+      // Not logged in: fall back to the public catalog pages
+      useQueueRef.current = false;
+      cursor = null;
+    }
+    return fetchCatalogPage(cursor);
+  };
+
+  // The session cookie lets the backend leave out jobs this user already swiped on;
+  // a page can then come back empty with a cursor, so keep following it a few times
+  const fetchCatalogPage = async (cursor: string | null) => {
+    let page: ApiJobPage = { items: [], nextCursor: cursor };
+    for (let attempt = 0; attempt < 5; attempt++) {
+      const params = new URLSearchParams({ limit: String(PAGE_SIZE) });
+      if (page.nextCursor) params.set("cursor", page.nextCursor);
+
+      const response = await fetch(`${API_URL}/api/jobs?${params.toString()}`, { credentials: "include" });
+      if (!response.ok) {
+        console.error("❌ [HTTP Error] Jobs fetch failed with status:", response.status);
+        throw new Error(`Failed to fetch jobs: ${response.status}`);
+      }
+
+      page = (await response.json()) as ApiJobPage;
+      if (page.items.length > 0 || !page.nextCursor) break;
+    }
+    return {
+      items: page.items.map(parseJob),
+      nextCursor: page.nextCursor,
+    };
+  };
 
   /* ---------------------------------------------------------
      FETCH JOBS (AUTO RUN ON MOUNT)
@@ -80,54 +185,16 @@ const Feed = () => {
     const fetchJobs = async () => {
       try {
         setIsLoading(true);
-        console.log("🚀 [Step 1] Triggering n8n external fetch via Backend...");
-        
-        // 1. Sync data from n8n to Database
-        const syncRes = await fetch(`${API_URL}/api/jobs/fetch-external`);
-        console.log("📡 [Sync Request Status]:", syncRes.status);
-
-        if (syncRes.status === 401) {
-          console.error("⛔ [Auth Error] 401 Unauthorized. Check SecurityConfig.java permitAll rules.");
-        }
+        // Ingestion from n8n runs on the backend scheduler, so the feed only reads the DB
+        console.log("🚀 Fetching first page from local database...");
+        const page = await fetchPage(null);
 
-        // 2. Load the newly synced jobs from the Database
-        console.log("🚀 [Step 2] Fetching list from local database...");
-        const response = await fetch(`${API_URL}/api/jobs`);
-        
-        if (!response.ok) {
-          console.error("❌ [HTTP Error] Jobs fetch failed with status:", response.status);
-          throw new Error(`Failed to fetch jobs: ${response.status}`);
-        }
-
-        const rawData = (await response.json()) as ApiJob[];
-        console.log("📦 [Raw Data Received from DB]:", rawData);
-
-        if (!Array.isArray(rawData) || rawData.length === 0) {
+        if (page.items.length === 0) {
           console.warn("⚠️ [Data Warning] No jobs returned from database.");
         }
 
-        // 3. Map and Parse JSON strings
-        const parsedData: Job[] = rawData.map((job, index) => ({
-          ...job,
-          benefits: safeJsonParse<string[]>(job.benefits, [], `job[${index}].benefits`),
-          qualifications: safeJsonParse<string[]>(job.qualifications, [], `job[${index}].qualifications`),
-          fullDescription: safeJsonParse<JobFullDescription>(
-            job.fullDescription,
-            {
-              category: "",
-              stipend: "",
-              duration: "",
-              workMode: "",
-              description: [],
-              requirements: [],
-            },
-            `job[${index}].fullDescription`
-          ),
-        }));
-
-        console.log("✅ [Final Parsed Data Ready for UI]:", parsedData);
-        setJobs(parsedData);
-        setDisplayedJobs(parsedData.slice(0, 5));
+        setJobs(page.items);
+        setNextCursor(page.nextCursor);
         mountedRef.current = true;
 
       } catch (error) {
@@ -139,6 +206,7 @@ const Feed = () => {
     };
 
     fetchJobs();
+    // eslint-disable-next-line react-hooks/exhaustive-deps
   }, []);
 
   /* ---------------------------------------------------------
@@ -146,29 +214,95 @@ const Feed = () => {
   --------------------------------------------------------- */
   useEffect(() => {
     if (!mountedRef.current) return;
-    if (inView && !isLoading && displayedJobs.length < jobs.length) {
+    if (inView && !isLoading && nextCursor) {
       loadMoreJobs();
     }
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [inView]);
 
-  const loadMoreJobs = () => {
+  const loadMoreJobs = async () => {
     setIsLoading(true);
-    console.log("🔄 Loading next batch of 5 jobs...");
-    setTimeout(() => {
-      const nextBatch = jobs.slice(
-        displayedJobs.length,
-        displayedJobs.length + 5
-      );
-      setDisplayedJobs((prev) => [...prev, ...nextBatch]);
+    console.log(`🔄 Loading next batch of ${PAGE_SIZE} jobs...`);
+    try {
+      const page = await fetchPage(nextCursor);
+      setJobs((prev) => [...prev, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (error) {
+      console.error("🔴 [Load More Error]:", error);
+      toast.error("Could not load more jobs.");
+    } finally {
       setIsLoading(false);
-    }, 600);
+    }
   };
 
+  /* ---------------------------------------------------------
+     SWIPE OUTBOX
+  --------------------------------------------------------- */
+  const scheduleSwipeFlush = (delayMs: number) => {
+    if (swipeTimerRef.current) return;
+    swipeTimerRef.current = setTimeout(() => {
+      swipeTimerRef.current = null;
+      flushSwipes();
+    }, delayMs);
+  };
+
+  const flushSwipes = async (keepalive = false) => {
+    const batch = pendingSwipesRef.current.splice(0, pendingSwipesRef.current.length);
+    if (batch.length === 0) return;
+
+    try {
+      const response = await fetch(`${API_URL}/api/swipes/batch`, {
+        method: "POST",
+        headers: { "Content-Type": "application/json" },
+        credentials: "include",
+        keepalive,
+        body: JSON.stringify(batch),
+      });
+
+      // 503: the server took the first `accepted` events and asks us to retry the rest later
+      if (response.status === 503) {
+        const { accepted = 0 } = await response.json().catch(() => ({}));
+        const retryAfter = Number(response.headers.get("Retry-After")) || 2;
+        pendingSwipesRef.current.unshift(...batch.slice(accepted));
+        scheduleSwipeFlush(retryAfter * 1000);
+        return;
+      }
+      if (!response.ok) {
+        console.warn("⚠️ [Swipe Sync] Swipes were not recorded, status:", response.status);
+      }
+    } catch (error) {
+      // Network failure: keep the events and try again with the next flush
+      pendingSwipesRef.current.unshift(...batch);
+      scheduleSwipeFlush(SWIPE_FLUSH_DELAY_MS);
+    }
+  };
+
+  const queueSwipe = (job: Job, direction: "left" | "right") => {
+    pendingSwipesRef.current.push({ jobId: job.id, direction, swipedAt: new Date().toISOString() });
+    if (pendingSwipesRef.current.length >= SWIPE_BATCH_SIZE) {
+      flushSwipes();
+    } else {
+      scheduleSwipeFlush(SWIPE_FLUSH_DELAY_MS);
+    }
+  };
+
+  // Send whatever is still queued when the tab is hidden or the feed unmounts
+  useEffect(() => {
+    const flushOnHide = () => flushSwipes(true);
+    window.addEventListener("pagehide", flushOnHide);
+    return () => {
+      window.removeEventListener("pagehide", flushOnHide);
+      if (swipeTimerRef.current) clearTimeout(swipeTimerRef.current);
+      flushSwipes(true);
+    };
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, []);
+
   /* ---------------------------------------------------------
      USER ACTIONS
   --------------------------------------------------------- */
   const handleSwipe = (job: Job, direction: "left" | "right") => {
+    queueSwipe(job, direction);
     if (direction === "right") {
       setShowConfetti(true);
       toast.success(`Applied to ${job.title}!`);
@@ -182,9 +316,20 @@ const Feed = () => {
     toast.success(`Saved ${job.title}`);
   };
 
-  const handleViewDetails = (job: Job) => {
+  const handleViewDetails = async (job: Job) => {
     setSelectedJob(job);
     setModalOpen(true);
+
+    // Cards omit benefits, qualifications and description; load them on open
+    try {
+      const response = await fetch(`${API_URL}/api/jobs/${encodeURIComponent(job.id)}`);
+      if (!response.ok) throw new Error(`Failed to fetch job: ${response.status}`);
+      const detail = parseJob((await response.json()) as ApiJob, 0);
+      setSelectedJob((current) => (current?.id === detail.id ? detail : current));
+    } catch (error) {
+      console.error("🔴 [Job Details Error]:", error);
+      toast.error("Could not load job details.");
+    }
   };
 
   /* ---------------------------------------------------------
@@ -208,7 +353,7 @@ const Feed = () => {
       {/* FEED CONTENT */}
       <main className="max-w-2xl mx-auto px-4 py-6">
         <div className="space-y-4">
-          {displayedJobs.map((job, index) => (
+          {jobs.map((job, index) => (
             <div key={job.id || `job-${index}`} style={{ animationDelay: `${index * 0.05}s` }}>
               <JobCard
                 job={job}
@@ -228,14 +373,14 @@ const Feed = () => {
           )}
 
           {/* INFINITE SCROLL TARGET */}
-          {displayedJobs.length < jobs.length && (
+          {nextCursor && (
             <div ref={loadMoreRef} className="h-16 flex justify-center items-center">
               <p className="text-sm text-muted-foreground">Loading more jobs…</p>
             </div>
           )}
 
           {/* EMPTY STATES */}
-          {displayedJobs.length >= jobs.length && jobs.length > 0 && (
+          {!nextCursor && jobs.length > 0 && (
             <motion.div 
               initial={{ opacity: 0 }} 
               animate={{ opacity: 1 }} 